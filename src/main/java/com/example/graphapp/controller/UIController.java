@@ -10,14 +10,23 @@ import com.example.graphapp.singleton.GraphManager;
 import com.example.graphapp.strategy.path.ShortestPathStrategy;
 import com.example.graphapp.strategy.logging.LoggingStrategy;
 import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.RangeResult;
 import com.example.graphapp.view.GraphCanvas;
 
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextInputDialog;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 public class UIController {
     private GraphManager graphManager;
@@ -32,6 +41,12 @@ public class UIController {
 
     private Node pendingStartNodeForPath = null; // Pour le mode SELECT_PATH
 
+    // Délai maximal d'un calcul de chemin lancé depuis l'interface
+    private static final long PATH_TIMEOUT_MS = 30_000;
+    private CompletableFuture<PathResult> pendingPathQuery; // Calcul en cours, accédé depuis le thread JavaFX uniquement
+    private ProgressBar pathProgressBar;
+    private Button cancelPathButton;
+
     public UIController(GraphCanvas canvas) {
         this.graphCanvas = canvas;
         this.graphManager = GraphManager.getInstance();
@@ -49,6 +64,15 @@ public class UIController {
         graphManager.log("UIController: Default pathfinding strategy set to DIJKSTRA.");
     }
 
+    /**
+     * Contrôles affichés pendant un calcul de chemin asynchrone (barre de progression, bouton d'annulation).
+     */
+    public void setPathProgressControls(ProgressBar progressBar, Button cancelButton) {
+        this.pathProgressBar = progressBar;
+        this.cancelPathButton = cancelButton;
+        showPathProgress(false);
+    }
+
     /**
      * Gère les clics simples sur le canvas.
      *
@@ -87,6 +111,7 @@ public class UIController {
 
         if (result.isPresent() && result.get() == ButtonType.YES) {
             graphManager.log("UIController: Removing node " + node.getLabel() + " after confirmation.");
+            cancelPathCalculation(); // Le calcul en cours concerne peut-être ce nœud
             graphManager.getGraph().removeNode(node); // Supprime le nœud et ses arcs (logique dans Graph.java)
             // Réinitialiser la sélection de chemin si le nœud supprimé était impliqué
             if (node.equals(graphCanvas.getSelectedNodeForPathStart()) || node.equals(pendingStartNodeForPath)) {
@@ -182,6 +207,7 @@ public class UIController {
             case SELECT_PATH:
                 if (clickedNode != null) {
                     if (pendingStartNodeForPath == null) { // Si aucun nœud de départ n'est en attente
+                        cancelPathCalculation(); // Nouvelles extrémités : le calcul précédent est obsolète
                         pendingStartNodeForPath = clickedNode;
                         graphCanvas.setSelectedNodeForPathStart(clickedNode); // Mettre à jour pour le feedback visuel
                         graphCanvas.setSelectedNodeForPathEnd(null); // Effacer la fin précédente
@@ -205,6 +231,7 @@ public class UIController {
                 } else { // Clic sur un espace vide en mode SELECT_PATH
                     graphManager.log("UIController: SELECT_PATH - Clicked on empty space. Resetting path selection.");
                     pendingStartNodeForPath = null;
+                    cancelPathCalculation();
                     graphCanvas.setSelectedNodeForPathStart(null);
                     graphCanvas.setSelectedNodeForPathEnd(null);
                     graphManager.findShortestPath(null,null); // Efface le chemin affiché
@@ -225,9 +252,10 @@ public class UIController {
                 double weight = Double.parseDouble(weightStr);
                 if (weight < 0 && (graphManager.getCurrentPathStrategy().getClass().getSimpleName().equals("DijkstraStrategy") ||
                                     graphManager.getCurrentPathStrategy().getClass().getSimpleName().equals("AStarStrategy") ||
-                                    graphManager.getCurrentPathStrategy().getClass().getSimpleName().equals("BFSStrategy"))) {
+                                    graphManager.getCurrentPathStrategy().getClass().getSimpleName().equals("BFSStrategy") ||
+                                    graphManager.getCurrentPathStrategy().getClass().getSimpleName().equals("BidirectionalDijkstraStrategy"))) {
                     graphManager.log("UIController: Negative weight (" + weight + ") for Dijkstra/A*/BFS.");
-                    Alert alert = new Alert(Alert.AlertType.WARNING, "Poids négatifs et Dijkstra/A*/BFS peuvent donner des résultats incorrects.");
+                    Alert alert = new Alert(Alert.AlertType.WARNING, "Poids négatifs et Dijkstra/A*/BFS peuvent donner des résultats incorrects. L'algorithme « Auto » bascule sur Bellman-Ford dans ce cas.");
                     alert.showAndWait();
                 }
                 Edge newEdge = edgeFactory.createEdge(source, target, weight);
@@ -275,6 +303,7 @@ public class UIController {
         graphManager.log("UIController: Interaction mode set to: " + currentMode);
         // Si on quitte le mode PATH, effacer les sélections de chemin pour éviter confusion
         if (!"PATH".equals(upperModeName)) {
+            cancelPathCalculation();
             graphCanvas.setSelectedNodeForPathStart(null);
             graphCanvas.setSelectedNodeForPathEnd(null);
             graphManager.findShortestPath(null,null); // Effacer le chemin affiché
@@ -324,22 +353,29 @@ public class UIController {
         }
     }
 
+    /**
+     * Lance le calcul du chemin hors du thread JavaFX ; un calcul encore en cours est annulé.
+     * Le résultat est affiché à la fin du calcul.
+     */
     public void calculateAndDisplayPath() {
         Node start = graphCanvas.getSelectedNodeForPathStart(); // Utiliser ceux-ci pour le calcul final
         Node end = graphCanvas.getSelectedNodeForPathEnd();
+        cancelPathCalculation();
 
         if (start != null && end != null) {
             graphManager.log("UIController: Calculating shortest path from " + start.getLabel() + " to " + end.getLabel() + ".");
-            PathResult result = graphManager.findShortestPath(start, end);
-            if (result.getPath() == null || result.getPath().isEmpty()) {
-                 if(result.getCost() != Double.NEGATIVE_INFINITY) {
-                    Alert alert = new Alert(Alert.AlertType.INFORMATION, "Aucun chemin trouvé entre " + start.getLabel() + " et " + end.getLabel() + ".");
-                    alert.showAndWait();
-                 } else {
-                     Alert alert = new Alert(Alert.AlertType.ERROR, "Un cycle de poids négatif a été détecté. Impossible de calculer le plus court chemin de manière fiable.");
-                     alert.showAndWait();
-                 }
-            }
+            showPathProgress(true);
+            CompletableFuture<PathResult> query = graphManager.findShortestPathAsync(start, end, PATH_TIMEOUT_MS,
+                    progress -> Platform.runLater(() -> {
+                        if (pathProgressBar != null) pathProgressBar.setProgress(progress);
+                    }));
+            pendingPathQuery = query;
+            query.whenComplete((result, error) -> Platform.runLater(() -> {
+                if (query != pendingPathQuery) return; // Remplacé par un calcul plus récent
+                pendingPathQuery = null;
+                showPathProgress(false);
+                displayPathResult(start, end, result, error);
+            }));
         } else {
             graphManager.log("UIController: Path calculation skipped. Start or end node not fully selected.");
             graphManager.findShortestPath(null, null);
@@ -348,7 +384,87 @@ public class UIController {
         graphCanvas.redraw();
     }
 
+    private void displayPathResult(Node start, Node end, PathResult result, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException) {
+            graphManager.log("UIController: Path calculation cancelled.");
+        } else if (cause instanceof TimeoutException) {
+            graphManager.log("UIController: Path calculation timed out after " + PATH_TIMEOUT_MS + " ms.");
+            Alert alert = new Alert(Alert.AlertType.WARNING, "Le calcul du chemin a dépassé " + PATH_TIMEOUT_MS / 1000 + " s et a été interrompu.");
+            alert.showAndWait();
+        } else if (cause != null) {
+            graphManager.log("UIController: Path calculation failed - " + cause);
+            Alert alert = new Alert(Alert.AlertType.ERROR, "Erreur lors du calcul du chemin : " + cause.getMessage());
+            alert.showAndWait();
+        } else if (result.getPath() == null || result.getPath().isEmpty()) {
+            if (result.getCost() != Double.NEGATIVE_INFINITY) {
+                Alert alert = new Alert(Alert.AlertType.INFORMATION, "Aucun chemin trouvé entre " + start.getLabel() + " et " + end.getLabel() + ".");
+                alert.showAndWait();
+            } else {
+                Alert alert = new Alert(Alert.AlertType.ERROR, "Un cycle de poids négatif a été détecté. Impossible de calculer le plus court chemin de manière fiable.");
+                alert.showAndWait();
+            }
+        }
+        graphCanvas.redraw();
+    }
+
+    /**
+     * Annule le calcul de chemin en cours, s'il y en a un.
+     */
+    public void cancelPathCalculation() {
+        CompletableFuture<PathResult> query = pendingPathQuery;
+        if (query != null) {
+            pendingPathQuery = null;
+            query.cancel(true);
+            showPathProgress(false);
+            graphManager.log("UIController: Pending path calculation cancelled.");
+        }
+    }
+
+    private void showPathProgress(boolean running) {
+        if (pathProgressBar != null) {
+            pathProgressBar.setProgress(running ? ProgressBar.INDETERMINATE_PROGRESS : 0);
+            pathProgressBar.setVisible(running);
+        }
+        if (cancelPathButton != null) {
+            cancelPathButton.setDisable(!running);
+        }
+    }
+
+    /**
+     * Affiche la zone atteignable depuis le nœud de départ sélectionné pour un coût maximal saisi
+     * par l'utilisateur. Sans nœud de départ, efface la zone affichée.
+     */
+    public void showReachableArea() {
+        Node start = graphCanvas.getSelectedNodeForPathStart();
+        if (start == null) {
+            graphManager.clearRangeHighlight();
+            graphManager.log("UIController: Reachable area cleared (no start node selected).");
+            graphCanvas.redraw();
+            return;
+        }
+        TextInputDialog budgetDialog = new TextInputDialog("10");
+        budgetDialog.setTitle("Zone Atteignable");
+        budgetDialog.setHeaderText("Coût maximal depuis " + start.getLabel() + " :");
+        budgetDialog.setContentText("Coût:");
+        Optional<String> budgetResult = budgetDialog.showAndWait();
+
+        budgetResult.ifPresent(budgetStr -> {
+            try {
+                double budget = Double.parseDouble(budgetStr);
+                RangeResult range = graphManager.findNodesWithinCost(Collections.singletonList(start), budget, true);
+                graphManager.log("UIController: " + range.size() + " nodes within cost " + budget + " of " + start.getLabel() + ".");
+            } catch (NumberFormatException e) {
+                graphManager.log("UIController: Invalid cost budget: " + budgetStr);
+                Alert alert = new Alert(Alert.AlertType.ERROR, "Coût invalide.");
+                alert.showAndWait();
+            }
+        });
+        graphCanvas.redraw();
+    }
+
     public void clearGraph() {
+        cancelPathCalculation();
         graphManager.getGraph().clear();
         graphCanvas.setSelectedNodeForPathStart(null);
         graphCanvas.setSelectedNodeForPathEnd(null);
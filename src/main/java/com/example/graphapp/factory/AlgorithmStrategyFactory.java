@@ -10,12 +10,28 @@ public class AlgorithmStrategyFactory {
                 return new DijkstraStrategy();
             case "BELLMAN-FORD":
                 return new BellmanFordStrategy(); // À créer
+            case "BELLMAN-FORD (PARALLEL)":
+                return new BellmanFordStrategy(BellmanFordStrategy.Mode.PARALLEL);
             case "FLOYD-WARSHALL":
                 return new FloydWarshallStrategy(); // À créer
+            case "JOHNSON":
+                return new JohnsonStrategy();
             case "A*":
                 return new AStarStrategy(); // À créer
+            case "A* (ALT)":
+                return new AStarStrategy(AStarStrategy.HeuristicMode.LANDMARKS);
+            case "A* (ANYTIME)":
+                return new AStarStrategy(AStarStrategy.HeuristicMode.LANDMARKS, 3.0, 5, 0);
             case "BFS":
                 return new BFSStrategy();
+            case "BIDIRECTIONAL DIJKSTRA":
+                return new BidirectionalDijkstraStrategy();
+            case "CONTRACTION HIERARCHIES":
+                return new ContractionHierarchiesStrategy();
+            case "DELTA-STEPPING":
+                return new DeltaSteppingStrategy();
+            case "AUTO":
+                return new AutoStrategy();
             default:
                 throw new IllegalArgumentException("Unknown algorithm type: " + type);
         }
@@ -6,6 +6,7 @@ public class Edge {
     private final Node source;
     private final Node target;
     private double weight;
+    private volatile Graph owner; // Graphe auquel l'arc appartient, prévenu des changements de poids
 
     public Edge(Node source, Node target, double weight) {
         this.source = source;
@@ -26,7 +27,16 @@ public class Edge {
     }
 
     public void setWeight(double weight) {
+        double oldWeight = this.weight;
         this.weight = weight;
+        Graph graph = owner;
+        if (graph != null && Double.compare(oldWeight, weight) != 0) {
+            graph.edgeWeightChanged(this, oldWeight);
+        }
+    }
+
+    void setOwner(Graph owner) {
+        this.owner = owner;
     }
 
     @Override
@@ -3,49 +3,124 @@ package com.example.graphapp.model;
 import com.example.graphapp.observer.Subject;
 import com.example.graphapp.observer.Observer;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Graph implements Subject {
+    // Nombre de modifications conservées pour les mises à jour incrémentales
+    private static final int CHANGE_LOG_CAPACITY = 1024;
+
     private final List<Node> nodes;
     private final List<Edge> edges;
     private final List<Observer> observers;
 
+    // Adjacency index: node -> edges leaving / entering it, kept in sync with 'edges'
+    private final Map<Node, List<Edge>> outgoing;
+    private final Map<Node, List<Edge>> incoming;
+
+    // Incremented on every structural or weight change; used to invalidate derived structures
+    private final AtomicLong version;
+    private final Object snapshotLock = new Object();
+    private volatile GraphSnapshot snapshot;
+    // Most recent changes, oldest first; guarded by itself together with the version bump
+    private final Deque<GraphChange> changeLog = new ArrayDeque<>();
+
+    // Statistiques maintenues à chaque modification, pour le choix automatique d'algorithme
+    private final AtomicInteger negativeEdgeCount = new AtomicInteger();
+    private final AtomicInteger nonUnitEdgeCount = new AtomicInteger();
+
     public Graph() {
         this.nodes = new CopyOnWriteArrayList<>(); // Thread-safe for modifications during iteration
         this.edges = new CopyOnWriteArrayList<>();
         this.observers = new ArrayList<>();
+        this.outgoing = new ConcurrentHashMap<>();
+        this.incoming = new ConcurrentHashMap<>();
+        this.version = new AtomicLong(0);
     }
 
     public void addNode(Node node) {
-        if (!nodes.contains(node)) {
+        if (!outgoing.containsKey(node)) {
+            outgoing.put(node, new CopyOnWriteArrayList<>());
+            incoming.put(node, new CopyOnWriteArrayList<>());
             nodes.add(node);
+            recordChange(GraphChange.Type.NODE_ADDED, node, null, Double.NaN, Double.NaN);
             notifyObservers("Node added: " + node.getLabel());
         }
     }
 
     public void removeNode(Node node) {
-        if (nodes.remove(node)) {
+        List<Edge> out = outgoing.remove(node);
+        List<Edge> in = incoming.remove(node);
+        if (out != null) {
+            nodes.remove(node);
+            // Detach the incident edges from the adjacency lists of the other endpoints
+            for (Edge edge : out) {
+                edge.setOwner(null);
+                countWeight(edge.getWeight(), -1);
+                List<Edge> targetIncoming = incoming.get(edge.getTarget());
+                if (targetIncoming != null) targetIncoming.remove(edge);
+            }
+            for (Edge edge : in) {
+                edge.setOwner(null);
+                if (!edge.getSource().equals(node)) countWeight(edge.getWeight(), -1); // Self-loops counted above
+                List<Edge> sourceOutgoing = outgoing.get(edge.getSource());
+                if (sourceOutgoing != null) sourceOutgoing.remove(edge);
+            }
             edges.removeIf(edge -> edge.getSource().equals(node) || edge.getTarget().equals(node));
+            recordChange(GraphChange.Type.NODE_REMOVED, node, null, Double.NaN, Double.NaN);
             notifyObservers("Node removed: " + node.getLabel());
         }
     }
 
     public void addEdge(Edge edge) {
-        if (nodes.contains(edge.getSource()) && nodes.contains(edge.getTarget()) && !edges.contains(edge)) {
+        List<Edge> out = outgoing.get(edge.getSource());
+        List<Edge> in = incoming.get(edge.getTarget());
+        // Duplicate check on the source's adjacency list instead of the whole edge list
+        if (out != null && in != null && !out.contains(edge)) {
             edges.add(edge);
+            out.add(edge);
+            in.add(edge);
+            edge.setOwner(this);
+            countWeight(edge.getWeight(), 1);
+            recordChange(GraphChange.Type.EDGE_ADDED, null, edge, Double.NaN, edge.getWeight());
             notifyObservers("Edge added: " + edge);
         }
     }
 
     public void removeEdge(Edge edge) {
         if (edges.remove(edge)) {
+            Edge removed = edge;
+            List<Edge> out = outgoing.get(edge.getSource());
+            if (out != null) {
+                // 'edge' may be an equal but distinct instance (another weight): detach and log the stored one
+                for (Edge stored : out) {
+                    if (stored.equals(edge)) {
+                        stored.setOwner(null);
+                        countWeight(stored.getWeight(), -1);
+                        removed = stored;
+                    }
+                }
+                out.remove(edge);
+            }
+            List<Edge> in = incoming.get(edge.getTarget());
+            if (in != null) in.remove(edge);
+            recordChange(GraphChange.Type.EDGE_REMOVED, null, removed, removed.getWeight(), Double.NaN);
             notifyObservers("Edge removed: " + edge);
         }
     }
-    
+
+    public boolean containsNode(Node node) {
+        return node != null && outgoing.containsKey(node);
+    }
+
     public List<Node> getNodes() {
         return Collections.unmodifiableList(nodes);
     }
@@ -54,12 +129,118 @@ public class Graph implements Subject {
         return Collections.unmodifiableList(edges);
     }
 
+    /**
+     * Arcs sortants du nœud (vide si le nœud n'appartient pas au graphe).
+     */
+    public List<Edge> getOutgoingEdges(Node node) {
+        List<Edge> out = node != null ? outgoing.get(node) : null;
+        return out != null ? Collections.unmodifiableList(out) : Collections.emptyList();
+    }
+
+    /**
+     * Arcs entrants du nœud (vide si le nœud n'appartient pas au graphe).
+     */
+    public List<Edge> getIncomingEdges(Node node) {
+        List<Edge> in = node != null ? incoming.get(node) : null;
+        return in != null ? Collections.unmodifiableList(in) : Collections.emptyList();
+    }
+
     public void clear() {
+        for (Edge edge : edges) {
+            edge.setOwner(null);
+        }
         nodes.clear();
         edges.clear();
+        outgoing.clear();
+        incoming.clear();
+        negativeEdgeCount.set(0);
+        nonUnitEdgeCount.set(0);
+        recordChange(GraphChange.Type.CLEARED, null, null, Double.NaN, Double.NaN);
         notifyObservers("Graph cleared");
     }
 
+    // Appelé par Edge.setWeight pour les arcs appartenant à ce graphe
+    void edgeWeightChanged(Edge edge, double oldWeight) {
+        countWeight(oldWeight, -1);
+        countWeight(edge.getWeight(), 1);
+        recordChange(GraphChange.Type.WEIGHT_CHANGED, null, edge, oldWeight, edge.getWeight());
+        notifyObservers("Edge weight changed: " + edge + " (was " + oldWeight + ")");
+    }
+
+    private void countWeight(double weight, int delta) {
+        if (weight < 0) negativeEdgeCount.addAndGet(delta);
+        if (weight != 1.0) nonUnitEdgeCount.addAndGet(delta);
+    }
+
+    /**
+     * Vrai si au moins un arc a un poids strictement négatif (maintenu en O(1)).
+     */
+    public boolean hasNegativeWeights() {
+        return negativeEdgeCount.get() > 0;
+    }
+
+    /**
+     * Vrai si tous les arcs ont un poids de 1 : un parcours en largeur donne alors les plus courts chemins.
+     */
+    public boolean hasUnitWeights() {
+        return nonUnitEdgeCount.get() == 0;
+    }
+
+    /**
+     * Version de modification du graphe, incrémentée à chaque changement de structure ou de poids.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Modifications survenues après la version donnée, de la plus ancienne à la plus récente.
+     * Retourne null si le journal ne remonte plus assez loin : l'appelant doit alors tout recalculer.
+     */
+    public List<GraphChange> getChangesSince(long sinceVersion) {
+        synchronized (changeLog) {
+            long current = version.get();
+            if (sinceVersion > current) return null;
+            if (sinceVersion == current) return Collections.emptyList();
+            GraphChange oldest = changeLog.peekFirst();
+            if (oldest == null || oldest.getVersion() > sinceVersion + 1) return null;
+            List<GraphChange> changes = new ArrayList<>((int) (current - sinceVersion));
+            for (GraphChange change : changeLog) {
+                if (change.getVersion() > sinceVersion) changes.add(change);
+            }
+            return changes;
+        }
+    }
+
+    // Bumps the version and logs the change atomically, so that the log never has gaps
+    private void recordChange(GraphChange.Type type, Node node, Edge edge, double oldWeight, double newWeight) {
+        synchronized (changeLog) {
+            long newVersion = version.incrementAndGet();
+            if (changeLog.size() == CHANGE_LOG_CAPACITY) changeLog.pollFirst();
+            changeLog.addLast(new GraphChange(type, newVersion, node, edge, oldWeight, newWeight));
+        }
+    }
+
+    /**
+     * Retourne une vue CSR immuable du graphe pour l'exécution des algorithmes.
+     * La vue est mise en cache et n'est reconstruite qu'après une modification du graphe.
+     */
+    public GraphSnapshot snapshot() {
+        GraphSnapshot current = snapshot;
+        if (current != null && current.getVersion() == version.get()) {
+            return current;
+        }
+        synchronized (snapshotLock) {
+            current = snapshot;
+            long currentVersion = version.get();
+            if (current == null || current.getVersion() != currentVersion) {
+                current = GraphSnapshot.build(currentVersion, nodes, edges);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
     @Override
     public void addObserver(Observer observer) {
         observers.add(observer);
@@ -76,4 +257,4 @@ public class Graph implements Subject {
             observer.update(this, arg);
         }
     }
-}
\ No newline at end of file
+}
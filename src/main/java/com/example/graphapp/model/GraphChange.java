@@ -0,0 +1,56 @@
+package com.example.graphapp.model;
+
+/**
+ * Modification élémentaire du graphe, estampillée par la version qu'elle a produite.
+ * Permet aux structures dérivées de se mettre à jour de façon incrémentale.
+ */
+public final class GraphChange {
+    public enum Type { NODE_ADDED, NODE_REMOVED, EDGE_ADDED, EDGE_REMOVED, WEIGHT_CHANGED, CLEARED }
+
+    private final Type type;
+    private final long version;
+    private final Node node;
+    private final Edge edge;
+    private final double oldWeight;
+    private final double newWeight;
+
+    GraphChange(Type type, long version, Node node, Edge edge, double oldWeight, double newWeight) {
+        this.type = type;
+        this.version = version;
+        this.node = node;
+        this.edge = edge;
+        this.oldWeight = oldWeight;
+        this.newWeight = newWeight;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Node getNode() {
+        return node;
+    }
+
+    public Edge getEdge() {
+        return edge;
+    }
+
+    // Poids avant le changement (NaN pour un arc ajouté)
+    public double getOldWeight() {
+        return oldWeight;
+    }
+
+    // Poids après le changement (NaN pour un arc retiré)
+    public double getNewWeight() {
+        return newWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "GraphChange{" + type + ", v=" + version + ", " + (edge != null ? edge : node) + '}';
+    }
+}
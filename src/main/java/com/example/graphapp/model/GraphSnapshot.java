@@ -0,0 +1,173 @@
+package com.example.graphapp.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vue immuable d'un {@link Graph} au format CSR (compressed sparse row).
+ * Les nœuds reçoivent des indices denses 0..n-1 ; les arcs sortants du nœud i sont
+ * stockés dans targets/weights entre offsets[i] et offsets[i + 1], et les arcs entrants
+ * de la même manière dans incomingSources/incomingWeights.
+ * Les tableaux retournés par les accesseurs sont partagés : ils ne doivent pas être modifiés.
+ */
+public final class GraphSnapshot {
+    private final long version;
+    private final Node[] nodes;
+    private final Map<Node, Integer> indexOf;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+
+    private final int[] incomingOffsets;
+    private final int[] incomingSources;
+    private final double[] incomingWeights;
+
+    private final boolean negativeWeights;
+
+    private GraphSnapshot(long version, Node[] nodes, Map<Node, Integer> indexOf,
+                          int[] offsets, int[] targets, double[] weights,
+                          int[] incomingOffsets, int[] incomingSources, double[] incomingWeights,
+                          boolean negativeWeights) {
+        this.version = version;
+        this.nodes = nodes;
+        this.indexOf = indexOf;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.incomingOffsets = incomingOffsets;
+        this.incomingSources = incomingSources;
+        this.incomingWeights = incomingWeights;
+        this.negativeWeights = negativeWeights;
+    }
+
+    static GraphSnapshot build(long version, List<Node> nodeList, List<Edge> edgeList) {
+        Node[] nodes = nodeList.toArray(new Node[0]);
+        int n = nodes.length;
+        Map<Node, Integer> indexOf = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexOf.put(nodes[i], i);
+        }
+
+        // Keep only edges whose endpoints are both part of the node array
+        Edge[] edgeArray = edgeList.toArray(new Edge[0]);
+        int[] sources = new int[edgeArray.length];
+        int[] destinations = new int[edgeArray.length];
+        double[] edgeWeights = new double[edgeArray.length];
+        int m = 0;
+        for (Edge edge : edgeArray) {
+            Integer u = indexOf.get(edge.getSource());
+            Integer v = indexOf.get(edge.getTarget());
+            if (u != null && v != null) {
+                sources[m] = u;
+                destinations[m] = v;
+                edgeWeights[m] = edge.getWeight();
+                m++;
+            }
+        }
+
+        int[] offsets = new int[n + 1];
+        int[] incomingOffsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            offsets[sources[e] + 1]++;
+            incomingOffsets[destinations[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+            incomingOffsets[i + 1] += incomingOffsets[i];
+        }
+
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        int[] incomingSources = new int[m];
+        double[] incomingWeights = new double[m];
+        int[] outFill = new int[n];
+        int[] inFill = new int[n];
+        boolean negativeWeights = false;
+        for (int e = 0; e < m; e++) {
+            int u = sources[e];
+            int v = destinations[e];
+            double w = edgeWeights[e];
+            if (w < 0) negativeWeights = true;
+
+            int outSlot = offsets[u] + outFill[u]++;
+            targets[outSlot] = v;
+            weights[outSlot] = w;
+
+            int inSlot = incomingOffsets[v] + inFill[v]++;
+            incomingSources[inSlot] = u;
+            incomingWeights[inSlot] = w;
+        }
+
+        return new GraphSnapshot(version, nodes, indexOf, offsets, targets, weights,
+                incomingOffsets, incomingSources, incomingWeights, negativeWeights);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    public Node getNode(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * Indice dense du nœud, ou -1 s'il ne fait pas partie de la vue.
+     */
+    public int indexOf(Node node) {
+        Integer index = node != null ? indexOf.get(node) : null;
+        return index != null ? index : -1;
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public int[] getTargets() {
+        return targets;
+    }
+
+    public double[] getWeights() {
+        return weights;
+    }
+
+    public int[] getIncomingOffsets() {
+        return incomingOffsets;
+    }
+
+    public int[] getIncomingSources() {
+        return incomingSources;
+    }
+
+    public double[] getIncomingWeights() {
+        return incomingWeights;
+    }
+
+    public boolean hasNegativeWeights() {
+        return negativeWeights;
+    }
+
+    /**
+     * Reconstruit le chemin menant à 'target' en remontant un tableau de prédécesseurs
+     * (-1 marque la racine).
+     */
+    public List<Node> buildPath(int[] parent, int target) {
+        List<Node> path = new ArrayList<>();
+        for (int current = target; current != -1; current = parent[current]) {
+            path.add(nodes[current]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -1,23 +1,94 @@
 package com.example.graphapp.singleton;
 
 import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
 import com.example.graphapp.model.Node;
+import com.example.graphapp.strategy.path.ApproximateDistanceOracle;
+import com.example.graphapp.strategy.path.DistanceMatrix;
+import com.example.graphapp.strategy.path.DynamicShortestPathTree;
+import com.example.graphapp.strategy.path.HubLabels;
+import com.example.graphapp.strategy.path.RangeSearch;
+import com.example.graphapp.strategy.path.ReachabilityIndex;
 import com.example.graphapp.strategy.path.ShortestPathStrategy;
 import com.example.graphapp.strategy.logging.LoggingStrategy;
+import com.example.graphapp.util.BatchPathResult;
+import com.example.graphapp.util.PathQuery;
 import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.PathResultCache;
+import com.example.graphapp.util.RangeResult;
+import com.example.graphapp.util.SearchMonitor;
 import com.example.graphapp.observer.Observer; // Pour que GraphManager puisse observer le graphe aussi
 import com.example.graphapp.observer.Subject;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+import java.util.stream.Collectors;
 
 public class GraphManager implements Observer {
+    // Requêtes regroupées par tâche soumise à l'executor lors d'un traitement par lot
+    private static final int BATCH_CHUNK_SIZE = 32;
+    // Nombre de résultats conservés par le cache LRU des chemins
+    private static final int PATH_CACHE_CAPACITY = 1024;
+    // Délai par défaut d'une requête asynchrone
+    private static final long DEFAULT_ASYNC_TIMEOUT_MS = 30_000;
+    // Repères de l'oracle de distances approchées (2 tables de n distances par repère)
+    private static final int ORACLE_LANDMARK_COUNT = 16;
+    // Poids de la dernière requête dans la moyenne glissante des latences
+    private static final double LATENCY_SMOOTHING = 0.2;
+
     private static GraphManager instance;
-    private Graph graph;
-    private ShortestPathStrategy currentPathStrategy;
+    private volatile Graph graph;
+    private volatile ShortestPathStrategy currentPathStrategy;
     private LoggingStrategy currentLoggingStrategy;
-    private List<Node> lastCalculatedPath; // Pour l'affichage
+    private volatile List<Node> lastCalculatedPath; // Pour l'affichage
+    private volatile RangeResult lastRangeResult; // Zone mise en évidence par le canvas, null si aucune
+    private final PathResultCache pathCache = new PathResultCache(PATH_CACHE_CAPACITY);
+    // Composantes fortement connexes de la dernière version vue, reconstruites à la première requête après une modification
+    private volatile ReachabilityIndex reachabilityIndex;
+    private final Object reachabilityLock = new Object();
+    // Étiquettes 2-hop construites en arrière-plan une fois findDistance utilisé, puis après chaque modification
+    private volatile HubLabels hubLabels;
+    private volatile HubLabels.Order hubLabelOrder = HubLabels.Order.CONTRACTION;
+    private volatile boolean hubLabelsWanted; // Set by the first findDistance call
+    private final AtomicBoolean hubLabelsBuildPending = new AtomicBoolean();
+    // Arbre des plus courts chemins maintenu depuis une source fixe, null si aucune source n'est épinglée
+    private volatile DynamicShortestPathTree pinnedTree;
+    // Objectif de latence par requête (0 : aucun) : échéance transmise aux stratégies anytime
+    private volatile long latencySloMs;
+    private final AtomicLong sloViolations = new AtomicLong();
+    // Mode surcharge : au-delà de ces seuils, les requêtes sont d'abord soumises à l'oracle approché
+    private volatile double approximateStretchBound; // 0 : mode désactivé
+    private volatile int overloadQueueDepth;
+    private volatile long overloadLatencyMs;
+    private final AtomicInteger pendingQueries = new AtomicInteger(); // Requêtes acceptées non terminées
+    private final AtomicLong averageLatencyBits = new AtomicLong(); // Moyenne glissante des latences servies (bits d'un double)
+    private final AtomicLong approximateAnswers = new AtomicLong();
+    // Oracle de la dernière version construite en arrière-plan, utilisé seulement s'il est à jour
+    private volatile ApproximateDistanceOracle approximateOracle;
+    private final AtomicBoolean oracleBuildPending = new AtomicBoolean();
+    // Threads démons : une recherche en cours ne bloque pas la fermeture de l'application
+    private final ExecutorService asyncExecutor = Executors.newCachedThreadPool(daemonThreads("path-query-"));
+    private final ExecutorService oracleExecutor = Executors.newSingleThreadExecutor(daemonThreads("distance-oracle-"));
+    private final ExecutorService hubLabelsExecutor = Executors.newSingleThreadExecutor(daemonThreads("hub-labels-"));
 
     private GraphManager() {
         this.graph = new Graph();
@@ -42,7 +113,18 @@ public class GraphManager implements Observer {
         }
         this.graph = graph;
         this.graph.addObserver(this);
+        pathCache.clear();
+        lastRangeResult = null;
+        hubLabels = null; // Only valid for the previous graph's versions
+        reachabilityIndex = null;
+        approximateOracle = null;
+        if (pinnedTree != null) {
+            pinnedTree = null; // Bound to the previous graph
+            log("Pinned source released (graph replaced).");
+        }
         log("Graph changed.");
+        scheduleOracleBuild();
+        scheduleHubLabelsBuild();
         // Potentially trigger observers of GraphManager if UI elements depend on the graph instance itself
     }
 
@@ -66,7 +148,9 @@ public class GraphManager implements Observer {
     }
     
     public PathResult findShortestPath(Node start, Node end) {
-        if (currentPathStrategy == null) {
+        ShortestPathStrategy strategy = currentPathStrategy;
+        Graph target = graph;
+        if (strategy == null) {
             log("Error: No pathfinding strategy selected.");
             return new PathResult(null, Double.POSITIVE_INFINITY, 0);
         }
@@ -76,32 +160,668 @@ public class GraphManager implements Observer {
         }
 
         log("Calculating shortest path from " + start.getLabel() + " to " + end.getLabel() +
-            " using " + currentPathStrategy.getClass().getSimpleName());
-        
-        long startTime = System.nanoTime();
-        PathResult result = currentPathStrategy.findShortestPath(graph, start, end);
-        long endTime = System.nanoTime();
-        long duration = (endTime - startTime) / 1_000_000; // ms
+            " using " + strategy.getName());
 
-        result.setCalculationTimeMs(duration);
+        PathResultCache.Key key = cacheKey(strategy, target, start, end);
+        PathResult result = pathCache.get(key);
+        boolean cacheHit = result != null;
+        if (!cacheHit) {
+            result = computeTracked(strategy, target, start, end, SearchMonitor.NONE);
+            cacheIfOptimal(key, result);
+        }
         this.lastCalculatedPath = result.getPath();
+        logPathResult(strategy, target, start, end, result, cacheHit);
+        
+        // Notify observers of GraphManager (e.g., UI to update path display)
+        // This is an example if GraphManager itself is a Subject for UI updates
+        // For simplicity here, the UIController will get this info directly or observe GraphManager.
+        return result;
+    }
+
+    /**
+     * Calcul asynchrone avec le délai par défaut et sans suivi de progression.
+     * Voir {@link #findShortestPathAsync(Node, Node, long, DoubleConsumer)}.
+     */
+    public CompletableFuture<PathResult> findShortestPathAsync(Node start, Node end) {
+        return findShortestPathAsync(start, end, DEFAULT_ASYNC_TIMEOUT_MS, null);
+    }
+
+    /**
+     * Calcule le chemin hors du thread appelant (thread JavaFX compris) avec la stratégie courante.
+     * Annuler le future, ou dépasser 'timeoutMs' (0 = sans limite), interrompt la recherche au
+     * prochain point de contrôle de la stratégie ; le future se termine alors par une
+     * CancellationException ou une TimeoutException. 'progressListener' (peut être null) reçoit
+     * la progression depuis le thread de calcul. Comme findShortestPath, met à jour
+     * lastCalculatedPath et passe par le cache des chemins.
+     */
+    public CompletableFuture<PathResult> findShortestPathAsync(Node start, Node end, long timeoutMs,
+                                                               DoubleConsumer progressListener) {
+        ShortestPathStrategy strategy = currentPathStrategy;
+        Graph target = graph;
+        if (strategy == null) {
+            log("Error: No pathfinding strategy selected.");
+            return CompletableFuture.completedFuture(new PathResult(null, Double.POSITIVE_INFINITY, 0));
+        }
+        if (start == null || end == null) {
+            log("Error: Start or end node not selected for pathfinding.");
+            return CompletableFuture.completedFuture(new PathResult(null, Double.POSITIVE_INFINITY, 0));
+        }
+
+        log("Calculating shortest path asynchronously from " + start.getLabel() + " to " + end.getLabel() +
+            " using " + strategy.getName());
 
+        PathResultCache.Key key = cacheKey(strategy, target, start, end);
+        PathResult cached = pathCache.get(key);
+        if (cached != null) {
+            this.lastCalculatedPath = cached.getPath();
+            logPathResult(strategy, target, start, end, cached, true);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        SearchMonitor monitor = new SearchMonitor(progressListener);
+        CompletableFuture<PathResult> future = new CompletableFuture<>();
+        // Cancellation, timeout or failure of the future stops the search at its next checkpoint
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                monitor.cancel();
+            }
+        });
+        if (timeoutMs > 0) {
+            future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+        pendingQueries.incrementAndGet(); // Queued queries count towards the overload threshold
+        asyncExecutor.execute(() -> {
+            try {
+                if (future.isDone()) return; // Cancelled before it started
+                PathResult result = compute(strategy, target, start, end, monitor);
+                cacheIfOptimal(key, result);
+                if (future.complete(result)) {
+                    this.lastCalculatedPath = result.getPath();
+                    logPathResult(strategy, target, start, end, result, false);
+                }
+            } catch (CancellationException e) {
+                future.cancel(false);
+                log("Path computation from " + start.getLabel() + " to " + end.getLabel() + " cancelled.");
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                pendingQueries.decrementAndGet();
+            }
+        });
+        return future;
+    }
+
+    private void logPathResult(ShortestPathStrategy strategy, Graph target, Node start, Node end,
+                               PathResult result, boolean cacheHit) {
         String logMessage = String.format(
-            "Path from %s to %s with %s: %s. Cost: %.2f. Time: %d ms. Graph: %d nodes, %d edges.",
-            start.getLabel(), end.getLabel(), currentPathStrategy.getClass().getSimpleName(),
+            "Path from %s to %s with %s: %s. Cost: %.2f%s. Time: %d ms%s. Graph: %d nodes, %d edges.",
+            start.getLabel(), end.getLabel(), strategy.getName(),
             result.getPath() != null ? result.getPath().toString() : "No path found",
             result.getCost(),
-            duration,
-            graph.getNodes().size(), graph.getEdges().size()
+            result.isOptimal() ? "" : String.format(" (%swithin %.2fx of optimal)",
+                result.isApproximate() ? "approximate, " : "", result.getSuboptimalityBound()),
+            result.getCalculationTimeMs(),
+            cacheHit ? " (cache hit)" : "",
+            target.getNodes().size(), target.getEdges().size()
         );
         log(logMessage);
-        
-        // Notify observers of GraphManager (e.g., UI to update path display)
-        // This is an example if GraphManager itself is a Subject for UI updates
-        // For simplicity here, the UIController will get this info directly or observe GraphManager.
-        return result;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
     
+    // Version read before the computation: a result computed while the graph changes is never served
+    private static PathResultCache.Key cacheKey(ShortestPathStrategy strategy, Graph target, Node start, Node end) {
+        return new PathResultCache.Key(start.getId(), end.getId(), strategy.getName(), target.getVersion());
+    }
+
+    // A bounded-suboptimal or approximate answer is only good enough under the load that produced it
+    private void cacheIfOptimal(PathResultCache.Key key, PathResult result) {
+        if (result.isOptimal()) {
+            pathCache.put(key, result);
+        }
+    }
+
+    private PathResult computeTracked(ShortestPathStrategy strategy, Graph target, Node start, Node end,
+                                      SearchMonitor monitor) {
+        pendingQueries.incrementAndGet();
+        try {
+            return compute(strategy, target, start, end, monitor);
+        } finally {
+            pendingQueries.decrementAndGet();
+        }
+    }
+
+    // Pairs proven unreachable by the SCC index are answered without running the strategy.
+    // Under overload, the approximate oracle answers first when it can certify its stretch.
+    // With a latency objective, the monitor carries the deadline (anytime strategies honour it).
+    private PathResult compute(ShortestPathStrategy strategy, Graph target, Node start, Node end,
+                               SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+        long slo = latencySloMs;
+        if (slo > 0) {
+            if (monitor == SearchMonitor.NONE) {
+                monitor = new SearchMonitor();
+            }
+            monitor.setDeadline(startTime + slo * 1_000_000);
+        }
+        PathResult result = null;
+        if (isProvablyUnreachable(target, start, end)) {
+            result = new PathResult(null, Double.POSITIVE_INFINITY, 0);
+        } else if (isOverloaded()) {
+            result = approximate(target, start, end);
+        }
+        if (result == null) {
+            result = strategy.findShortestPath(target, start, end, monitor);
+        }
+        long durationNanos = System.nanoTime() - startTime;
+        recordLatency(durationNanos / 1e6);
+        long duration = durationNanos / 1_000_000; // ms
+        if (slo > 0 && duration > slo) {
+            sloViolations.incrementAndGet();
+            log(String.format("Latency objective exceeded: %d ms > %d ms with %s.", duration, slo, strategy.getName()));
+        }
+        return result.withCalculationTimeMs(duration);
+    }
+
+    /**
+     * Objectif de latence par requête en millisecondes (0 : aucun). Les stratégies anytime
+     * (A* avec un poids initial > 1) rendent leur meilleure solution avant l'échéance, avec sa borne
+     * de sous-optimalité ; les stratégies exactes ne sont pas interrompues, mais les dépassements
+     * sont journalisés et comptés. Les résultats non optimaux ne sont pas mis en cache.
+     */
+    public void setLatencySloMs(long latencySloMs) {
+        if (latencySloMs < 0) {
+            throw new IllegalArgumentException("Latency objective must be >= 0: " + latencySloMs);
+        }
+        this.latencySloMs = latencySloMs;
+        log("Latency objective set to " + (latencySloMs > 0 ? latencySloMs + " ms." : "none."));
+    }
+
+    public long getLatencySloMs() {
+        return latencySloMs;
+    }
+
+    /**
+     * Nombre de requêtes ayant dépassé l'objectif de latence.
+     */
+    public long getSloViolations() {
+        return sloViolations.get();
+    }
+
+    // Oracle answer for an up-to-date oracle within its stretch bound, null otherwise
+    private PathResult approximate(Graph target, Node start, Node end) {
+        ApproximateDistanceOracle oracle = approximateOracle;
+        if (oracle == null || oracle.getSnapshot() != target.snapshot()) {
+            return null; // Still being rebuilt for this version
+        }
+        int from = oracle.getSnapshot().indexOf(start);
+        int to = oracle.getSnapshot().indexOf(end);
+        PathResult result = from >= 0 && to >= 0 ? oracle.query(from, to) : null;
+        if (result != null) {
+            approximateAnswers.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * Active le mode surcharge : lorsque plus de 'queueDepthThreshold' requêtes sont en attente ou en
+     * cours, ou que la latence moyenne des dernières requêtes dépasse 'latencyThresholdMs' (0 : critère
+     * ignoré), les requêtes sont d'abord soumises à un oracle de distances approchées. Il ne répond que
+     * si l'étirement de son chemin est garanti au plus 'stretchBound' ; sinon le calcul exact a lieu.
+     * Ses réponses sont marquées approchées ({@link PathResult#isApproximate()}) et ne sont pas mises
+     * en cache. L'oracle est reconstruit en arrière-plan après chaque modification du graphe ; tant
+     * qu'il n'est pas à jour, toutes les requêtes sont exactes. Sans effet avec des poids négatifs.
+     */
+    public void enableApproximateFallback(double stretchBound, int queueDepthThreshold, long latencyThresholdMs) {
+        if (!(stretchBound >= 1.0)) {
+            throw new IllegalArgumentException("Stretch bound must be at least 1: " + stretchBound);
+        }
+        if (queueDepthThreshold < 0 || latencyThresholdMs < 0) {
+            throw new IllegalArgumentException("Overload thresholds must be >= 0");
+        }
+        this.overloadQueueDepth = queueDepthThreshold;
+        this.overloadLatencyMs = latencyThresholdMs;
+        this.approximateStretchBound = stretchBound;
+        log(String.format("Approximate fallback enabled: stretch <= %.2f, queue depth > %d or mean latency > %d ms.",
+            stretchBound, queueDepthThreshold, latencyThresholdMs));
+        scheduleOracleBuild();
+    }
+
+    public void disableApproximateFallback() {
+        this.approximateStretchBound = 0;
+        this.approximateOracle = null;
+        log("Approximate fallback disabled.");
+    }
+
+    public boolean isApproximateFallbackEnabled() {
+        return approximateStretchBound > 0;
+    }
+
+    /**
+     * Vrai si le mode surcharge est actif et qu'un seuil (profondeur de file ou latence moyenne) est franchi.
+     */
+    public boolean isOverloaded() {
+        if (approximateStretchBound <= 0) return false;
+        long latencyThreshold = overloadLatencyMs;
+        return pendingQueries.get() > overloadQueueDepth
+                || (latencyThreshold > 0 && getAverageLatencyMs() > latencyThreshold);
+    }
+
+    /**
+     * Nombre de requêtes servies par l'oracle approché.
+     */
+    public long getApproximateAnswers() {
+        return approximateAnswers.get();
+    }
+
+    public int getPendingQueries() {
+        return pendingQueries.get();
+    }
+
+    public double getAverageLatencyMs() {
+        return Double.longBitsToDouble(averageLatencyBits.get());
+    }
+
+    // Concurrent workers update the moving average: CAS loop on the bits of the double
+    private void recordLatency(double latencyMs) {
+        long current;
+        long updated;
+        do {
+            current = averageLatencyBits.get();
+            double average = Double.longBitsToDouble(current);
+            updated = Double.doubleToLongBits(average + LATENCY_SMOOTHING * (latencyMs - average));
+        } while (!averageLatencyBits.compareAndSet(current, updated));
+    }
+
+    /**
+     * Oracle approché courant (null si désactivé, pas encore construit ou poids négatifs) ; il peut
+     * appartenir à une version antérieure pendant sa reconstruction.
+     */
+    public ApproximateDistanceOracle getApproximateOracle() {
+        return approximateOracle;
+    }
+
+    // Coalesced: at most one build queued, and it reads the graph version current when it starts
+    private void scheduleOracleBuild() {
+        if (approximateStretchBound <= 0 || !oracleBuildPending.compareAndSet(false, true)) return;
+        oracleExecutor.execute(() -> {
+            oracleBuildPending.set(false); // Later changes queue another build
+            double stretchBound = approximateStretchBound;
+            if (stretchBound <= 0) return;
+            GraphSnapshot snapshot = graph.snapshot();
+            ApproximateDistanceOracle current = approximateOracle;
+            if (current != null && current.getSnapshot() == snapshot && current.getStretchBound() == stretchBound) return;
+            if (snapshot.hasNegativeWeights()) {
+                approximateOracle = null;
+                log("Approximate fallback unavailable: the graph has negative weights.");
+                return;
+            }
+            try {
+                long startTime = System.nanoTime();
+                ApproximateDistanceOracle oracle = ApproximateDistanceOracle.build(snapshot, ORACLE_LANDMARK_COUNT, stretchBound);
+                long duration = (System.nanoTime() - startTime) / 1_000_000; // ms
+                if (approximateStretchBound > 0) {
+                    approximateOracle = oracle;
+                }
+                log(String.format("Distance oracle built in %d ms: %d landmarks, %d table entries. Graph: %d nodes, %d edges.",
+                    duration, oracle.getLandmarkCount(), oracle.getTableEntryCount(),
+                    snapshot.getNodeCount(), snapshot.getEdgeCount()));
+            } catch (RuntimeException e) {
+                log("Error: distance oracle build failed: " + e.getMessage());
+            }
+        });
+    }
+
+    private boolean isProvablyUnreachable(Graph target, Node start, Node end) {
+        ReachabilityIndex index = reachabilityFor(target);
+        int from = index.getSnapshot().indexOf(start);
+        int to = index.getSnapshot().indexOf(end);
+        return from >= 0 && to >= 0 && !index.mayReach(from, to);
+    }
+
+    private ReachabilityIndex reachabilityFor(Graph target) {
+        GraphSnapshot snapshot = target.snapshot();
+        ReachabilityIndex index = reachabilityIndex;
+        if (index != null && index.getSnapshot() == snapshot) {
+            return index;
+        }
+        synchronized (reachabilityLock) { // Concurrent batch queries build it once
+            index = reachabilityIndex;
+            if (index == null || index.getSnapshot() != snapshot) {
+                // Weight changes and edges inside a component keep the components: no rebuild
+                ReachabilityIndex rebased = index != null && index.getVersion() < snapshot.getVersion()
+                        ? index.rebase(snapshot, target.getChangesSince(index.getVersion())) : null;
+                index = rebased != null ? rebased : ReachabilityIndex.build(snapshot);
+                reachabilityIndex = index;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Coût seul du plus court chemin de 'start' vers 'end' (+infini si inaccessible), pour les
+     * consultations de distance en grand nombre : lu dans les étiquettes 2-hop du graphe, sans
+     * recherche ni reconstruction du chemin. Les étiquettes sont construites en arrière-plan à la
+     * première requête, puis après chaque modification ; tant que celles de la version courante
+     * manquent (ou avec des poids négatifs), la stratégie courante calcule la distance.
+     * Seule la construction des étiquettes est journalisée ; ni le cache des chemins ni
+     * lastCalculatedPath ne sont touchés.
+     */
+    public double findDistance(Node start, Node end) {
+        Graph target = graph;
+        GraphSnapshot snapshot = target.snapshot();
+        int from = snapshot.indexOf(start);
+        int to = snapshot.indexOf(end);
+        if (from < 0 || to < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        HubLabels labels = hubLabels;
+        if (labels != null && labels.getSnapshot() == snapshot) {
+            return labels.distance(from, to);
+        }
+        if (!hubLabelsWanted) {
+            hubLabelsWanted = true;
+            scheduleHubLabelsBuild();
+        }
+        ShortestPathStrategy strategy = currentPathStrategy;
+        return strategy != null ? strategy.findDistance(target, start, end) : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Ordre des hubs des étiquettes de findDistance (CONTRACTION par défaut : étiquettes bien plus
+     * petites sur un graphe routier ; DEGREE pour un graphe à hubs naturels). Les étiquettes en place
+     * restent exactes et servent jusqu'à leur reconstruction dans le nouvel ordre.
+     */
+    public void setHubLabelOrder(HubLabels.Order order) {
+        this.hubLabelOrder = order;
+        log("Hub label order set to " + order + ".");
+        scheduleHubLabelsBuild();
+    }
+
+    public HubLabels.Order getHubLabelOrder() {
+        return hubLabelOrder;
+    }
+
+    /**
+     * Étiquettes courantes (null si findDistance n'a pas encore servi ou poids négatifs) ; elles
+     * peuvent appartenir à une version antérieure pendant leur reconstruction.
+     */
+    public HubLabels getHubLabels() {
+        return hubLabels;
+    }
+
+    // Coalesced like the oracle build: at most one queued, reading the version current when it starts
+    private void scheduleHubLabelsBuild() {
+        if (!hubLabelsWanted || !hubLabelsBuildPending.compareAndSet(false, true)) return;
+        hubLabelsExecutor.execute(() -> {
+            hubLabelsBuildPending.set(false); // Later changes queue another build
+            HubLabels.Order order = hubLabelOrder;
+            GraphSnapshot snapshot = graph.snapshot();
+            HubLabels current = hubLabels;
+            if (current != null && current.getSnapshot() == snapshot && current.getOrder() == order) return;
+            if (snapshot.hasNegativeWeights()) {
+                hubLabels = null;
+                return; // findDistance falls back to the current strategy
+            }
+            try {
+                long startTime = System.nanoTime();
+                HubLabels labels = HubLabels.build(snapshot, order, SearchMonitor.NONE);
+                long duration = (System.nanoTime() - startTime) / 1_000_000; // ms
+                hubLabels = labels;
+                log(String.format("Hub labels built in %d ms (%s order): %.1f hubs per label on average. Graph: %d nodes, %d edges.",
+                    duration, order, labels.getAverageLabelSize(), snapshot.getNodeCount(), snapshot.getEdgeCount()));
+            } catch (RuntimeException e) {
+                log("Error: hub label build failed: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Épingle une source : son arbre des plus courts chemins est ensuite réparé de façon incrémentale
+     * après chaque modification du graphe au lieu d'être recalculé. Remplace la source épinglée précédente.
+     */
+    public DynamicShortestPathTree pinSource(Node source) {
+        DynamicShortestPathTree tree = new DynamicShortestPathTree(graph, source);
+        long startTime = System.nanoTime();
+        tree.refresh();
+        long duration = (System.nanoTime() - startTime) / 1_000_000; // ms
+        pinnedTree = tree;
+        log("Pinned source " + source.getLabel() + ": shortest-path tree built in " + duration + " ms.");
+        return tree;
+    }
+
+    public void unpinSource() {
+        if (pinnedTree != null) {
+            log("Pinned source " + pinnedTree.getSource().getLabel() + " released.");
+            pinnedTree = null;
+        }
+    }
+
+    public DynamicShortestPathTree getPinnedTree() {
+        return pinnedTree;
+    }
+
+    /**
+     * Chemin depuis la source épinglée, lu dans l'arbre maintenu (réparé au besoin).
+     * La stratégie courante n'est pas utilisée.
+     */
+    public PathResult findShortestPathFromPinnedSource(Node end) {
+        DynamicShortestPathTree tree = pinnedTree;
+        if (tree == null || end == null) {
+            log("Error: No pinned source or end node for pathfinding.");
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0);
+        }
+        long startTime = System.nanoTime();
+        PathResult result = tree.pathTo(end);
+        long duration = (System.nanoTime() - startTime) / 1_000_000; // ms
+        result = result.withCalculationTimeMs(duration);
+        log(String.format("Path from pinned source %s to %s: %s. Cost: %.2f. Time: %d ms (last repair: %d nodes).",
+            tree.getSource().getLabel(), end.getLabel(),
+            result.getPath() != null ? result.getPath().toString() : "No path found",
+            result.getCost(), result.getCalculationTimeMs(), tree.getLastRepairSize()));
+        return result;
+    }
+
+    /**
+     * Index d'accessibilité (composantes fortement connexes) du graphe courant, à jour de sa version.
+     */
+    public ReachabilityIndex getReachabilityIndex() {
+        return reachabilityFor(graph);
+    }
+
+    /**
+     * Cache des résultats de chemin (compteurs de succès, défauts et évictions).
+     */
+    public PathResultCache getPathCache() {
+        return pathCache;
+    }
+
+    /**
+     * Les k meilleurs chemins sans boucle de 'start' vers 'end', par coût croissant, pour proposer
+     * des itinéraires de secours. Liste vide s'il n'existe aucun chemin ; les poids négatifs ne sont
+     * pas supportés (liste vide, erreur journalisée).
+     */
+    public List<PathResult> findKShortestPaths(Node start, Node end, int k) {
+        ShortestPathStrategy strategy = currentPathStrategy;
+        Graph target = graph;
+        if (strategy == null || start == null || end == null) {
+            log("Error: No pathfinding strategy, start or end node for k-shortest paths.");
+            return Collections.emptyList();
+        }
+        long startTime = System.nanoTime();
+        List<PathResult> paths;
+        if (isProvablyUnreachable(target, start, end)) {
+            paths = Collections.emptyList();
+        } else {
+            try {
+                paths = strategy.findKShortestPaths(target, start, end, k);
+            } catch (IllegalArgumentException e) {
+                log("Error: " + e.getMessage());
+                return Collections.emptyList();
+            }
+        }
+        long duration = (System.nanoTime() - startTime) / 1_000_000; // ms
+        log(String.format("%d shortest paths from %s to %s (k = %d): costs %s. Time: %d ms. Graph: %d nodes, %d edges.",
+            paths.size(), start.getLabel(), end.getLabel(), k,
+            paths.stream().map(p -> String.format("%.2f", p.getCost())).collect(Collectors.toList()),
+            duration, target.getNodes().size(), target.getEdges().size()));
+        return paths;
+    }
+
+    /**
+     * Exécute un lot de requêtes sur le ForkJoinPool commun. Voir {@link #findShortestPaths(List, ExecutorService)}.
+     */
+    public BatchPathResult findShortestPaths(List<PathQuery> queries) {
+        return findShortestPaths(queries, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Exécute un lot de requêtes avec la stratégie courante, réparties sur l'executor fourni.
+     * Les résultats sont rendus dans l'ordre des requêtes. Contrairement à findShortestPath,
+     * aucun message n'est journalisé par requête et lastCalculatedPath n'est pas modifié :
+     * un seul résumé est journalisé pour le lot. Les résultats passent par le cache des chemins.
+     */
+    public BatchPathResult findShortestPaths(List<PathQuery> queries, ExecutorService executor) {
+        ShortestPathStrategy strategy = currentPathStrategy; // Same strategy for the whole batch
+        Graph target = graph;
+        if (strategy == null) {
+            log("Error: No pathfinding strategy selected.");
+            List<PathResult> empty = new ArrayList<>(queries.size());
+            for (int i = 0; i < queries.size(); i++) {
+                empty.add(new PathResult(null, Double.POSITIVE_INFINITY, 0));
+            }
+            return new BatchPathResult(empty, 0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        PathResult[] results = new PathResult[queries.size()];
+        List<Future<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < queries.size(); from += BATCH_CHUNK_SIZE) {
+            int chunkStart = from;
+            int chunkEnd = Math.min(queries.size(), from + BATCH_CHUNK_SIZE);
+            Callable<Long> task = () -> {
+                long chunkTimeNanos = 0;
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    PathQuery query = queries.get(i);
+                    long queryStart = System.nanoTime();
+                    PathResult result;
+                    if (query.getStart() == null || query.getEnd() == null) {
+                        result = new PathResult(null, Double.POSITIVE_INFINITY, 0);
+                    } else {
+                        PathResultCache.Key key = cacheKey(strategy, target, query.getStart(), query.getEnd());
+                        result = pathCache.get(key);
+                        if (result == null) {
+                            result = computeTracked(strategy, target, query.getStart(), query.getEnd(), SearchMonitor.NONE);
+                            cacheIfOptimal(key, result);
+                        }
+                    }
+                    results[i] = result;
+                    chunkTimeNanos += System.nanoTime() - queryStart;
+                }
+                return chunkTimeNanos;
+            };
+            chunks.add(executor.submit(task));
+        }
+
+        long computeTimeNanos = 0;
+        try {
+            for (Future<Long> chunk : chunks) {
+                computeTimeNanos += chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException("Batch path computation interrupted", e);
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException("Batch path computation failed", e.getCause());
+        }
+        long wallTime = (System.nanoTime() - startTime) / 1_000_000; // ms
+
+        BatchPathResult batch = new BatchPathResult(Arrays.asList(results), wallTime, computeTimeNanos / 1_000_000);
+        log(String.format("Batch of %d path queries with %s: wall time %d ms, compute time %d ms. Graph: %d nodes, %d edges.",
+            queries.size(), strategy.getName(), wallTime, batch.getComputeTimeMs(),
+            target.getNodes().size(), target.getEdges().size()));
+        return batch;
+    }
+
+    /**
+     * Distances de 'source' vers chacune des cibles, dans l'ordre d'itération de la collection.
+     * Une seule recherche, arrêtée dès que toutes les cibles sont atteintes.
+     */
+    public double[] findDistances(Node source, Collection<Node> targets) {
+        return distanceMatrix(Collections.singletonList(source), new ArrayList<>(targets))[0];
+    }
+
+    /**
+     * Matrice des distances : result[i][j] = distance de sources.get(i) vers targets.get(j).
+     * +infini si la cible est inaccessible (ou inconnue), -infini si un cycle négatif est accessible.
+     * Une recherche par source, les sources étant traitées en parallèle ; la stratégie courante
+     * n'est pas utilisée (Dijkstra, ou Bellman-Ford en présence de poids négatifs).
+     */
+    public double[][] distanceMatrix(List<Node> sources, List<Node> targets) {
+        GraphSnapshot snapshot = graph.snapshot();
+        int[] sourceIndices = new int[sources.size()];
+        for (int i = 0; i < sourceIndices.length; i++) {
+            sourceIndices[i] = snapshot.indexOf(sources.get(i));
+        }
+        int[] targetIndices = new int[targets.size()];
+        for (int j = 0; j < targetIndices.length; j++) {
+            targetIndices[j] = snapshot.indexOf(targets.get(j));
+        }
+
+        long startTime = System.nanoTime();
+        double[][] matrix = DistanceMatrix.compute(snapshot, sourceIndices, targetIndices);
+        long duration = (System.nanoTime() - startTime) / 1_000_000; // ms
+        log(String.format("Distance matrix %d x %d computed in %d ms. Graph: %d nodes, %d edges.",
+            sources.size(), targets.size(), duration, snapshot.getNodeCount(), snapshot.getEdgeCount()));
+        return matrix;
+    }
+
+    /**
+     * Requête de zone (isochrone) : tous les nœuds à un coût au plus égal à 'budget' depuis l'une des
+     * sources, avec leur coût, en une seule recherche multi-sources bornée. Les sources absentes du
+     * graphe sont ignorées. La stratégie courante n'est pas utilisée. Avec 'highlight', le résultat
+     * devient la zone affichée par le canvas (voir {@link #getLastRangeResult()}).
+     * Résultat vide si un cycle de poids négatif est accessible (erreur journalisée).
+     */
+    public RangeResult findNodesWithinCost(Collection<Node> sources, double budget, boolean highlight) {
+        GraphSnapshot snapshot = graph.snapshot();
+        int[] sourceIndices = sources.stream().mapToInt(snapshot::indexOf).toArray();
+
+        long startTime = System.nanoTime();
+        RangeResult result;
+        try {
+            result = RangeSearch.search(snapshot, sourceIndices, budget);
+        } catch (IllegalArgumentException e) {
+            log("Error: " + e.getMessage());
+            result = RangeResult.empty(snapshot, budget);
+        }
+        long duration = (System.nanoTime() - startTime) / 1_000_000; // ms
+        result = result.withCalculationTimeMs(duration);
+        if (highlight) {
+            this.lastRangeResult = result;
+        }
+        log(String.format("Range query from %d source(s) within cost %.2f: %d nodes reached. Time: %d ms. Graph: %d nodes, %d edges.",
+            sources.size(), budget, result.size(), duration, snapshot.getNodeCount(), snapshot.getEdgeCount()));
+        return result;
+    }
+
+    public RangeResult getLastRangeResult() {
+        return lastRangeResult;
+    }
+
+    public void clearRangeHighlight() {
+        this.lastRangeResult = null;
+    }
+
     public List<Node> getLastCalculatedPath() {
         return lastCalculatedPath;
     }
@@ -121,6 +841,10 @@ public class GraphManager implements Observer {
             log("GraphManager observed change in Graph: " + arg.toString());
             // Potentially trigger recalculation or UI update
             this.lastCalculatedPath = null; // Invalidate last path
+            this.lastRangeResult = null; // Costs of the displayed range are stale too
+            pathCache.clear(); // Cached results belong to an older graph version
+            scheduleOracleBuild();
+            scheduleHubLabelsBuild();
             // Notify observers of GraphManager that the graph has changed
         }
     }
@@ -1,14 +1,114 @@
 package com.example.graphapp.strategy.path;
 
-import com.example.graphapp.model.Edge;
 import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
 import com.example.graphapp.model.Node;
+import com.example.graphapp.util.IndexedDaryHeap;
 import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+import com.example.graphapp.util.SearchWorkspace;
 
-import java.util.*;
+import java.util.Arrays;
 
+/**
+ * A* classique, ou anytime (à la ARA*) avec un poids initial > 1 : une première solution est trouvée
+ * rapidement avec l'heuristique gonflée (f = g + w * h), puis le poids est abaissé et la recherche
+ * reprend là où elle s'était arrêtée, tant que le budget (temps, expansions, échéance du moniteur)
+ * le permet. Le résultat indique la borne de sous-optimalité atteinte ; elle n'est garantie que
+ * si l'heuristique est admissible (LANDMARKS).
+ */
 public class AStarStrategy implements ShortestPathStrategy {
 
+    /**
+     * EUCLIDEAN : distance euclidienne entre positions à l'écran (mise à l'échelle, non garantie admissible).
+     * LANDMARKS : heuristique ALT, borne inférieure par inégalité triangulaire sur des repères précalculés.
+     */
+    public enum HeuristicMode { EUCLIDEAN, LANDMARKS }
+
+    private static final int DEFAULT_LANDMARK_COUNT = 8;
+    // Weight decrement between two anytime iterations
+    private static final double WEIGHT_STEP = 0.5;
+    // Expansions between two budget checks (System.nanoTime() is not free)
+    private static final int BUDGET_CHECK_INTERVAL = 32;
+
+    private final HeuristicMode mode;
+    private final int landmarkCount;
+    private final double initialWeight; // 1 : A* classique
+    private final long timeBudgetMs;    // 0 : sans limite (hors échéance du moniteur)
+    private final long expansionBudget; // 0 : sans limite
+
+    // Landmark tables of the last graph seen, rebuilt when the graph version changes
+    private Graph landmarkGraph;
+    private LandmarkTable landmarkTable;
+
+    public AStarStrategy() {
+        this(HeuristicMode.EUCLIDEAN);
+    }
+
+    public AStarStrategy(HeuristicMode mode) {
+        this(mode, DEFAULT_LANDMARK_COUNT);
+    }
+
+    public AStarStrategy(HeuristicMode mode, int landmarkCount) {
+        this(mode, landmarkCount, 1.0, 0, 0);
+    }
+
+    /**
+     * Mode anytime. Voir {@link #AStarStrategy(HeuristicMode, int, double, long, long)}.
+     */
+    public AStarStrategy(HeuristicMode mode, double initialWeight, long timeBudgetMs, long expansionBudget) {
+        this(mode, DEFAULT_LANDMARK_COUNT, initialWeight, timeBudgetMs, expansionBudget);
+    }
+
+    /**
+     * @param initialWeight poids de l'heuristique pour la première solution (>= 1 ; 1 : A* classique).
+     * @param timeBudgetMs temps au-delà duquel la meilleure solution trouvée est rendue (0 : sans limite).
+     * @param expansionBudget nombre d'expansions au-delà duquel elle est rendue (0 : sans limite).
+     *                        Les budgets ne s'appliquent qu'une fois une première solution trouvée.
+     */
+    public AStarStrategy(HeuristicMode mode, int landmarkCount, double initialWeight, long timeBudgetMs, long expansionBudget) {
+        if (!(initialWeight >= 1.0)) {
+            throw new IllegalArgumentException("Heuristic weight must be at least 1: " + initialWeight);
+        }
+        this.mode = mode;
+        this.landmarkCount = landmarkCount;
+        this.initialWeight = initialWeight;
+        this.timeBudgetMs = timeBudgetMs;
+        this.expansionBudget = expansionBudget;
+    }
+
+    public HeuristicMode getMode() {
+        return mode;
+    }
+
+    public boolean isAnytime() {
+        return initialWeight > 1.0;
+    }
+
+    @Override
+    public String getName() {
+        if (isAnytime()) {
+            return getClass().getSimpleName() + "(" + mode + ", anytime w=" + initialWeight +
+                    ", " + timeBudgetMs + " ms, " + expansionBudget + " expansions)";
+        }
+        return getClass().getSimpleName() + "(" + mode + ")";
+    }
+
+    private synchronized LandmarkTable landmarksFor(Graph graph, GraphSnapshot snapshot) {
+        if (landmarkTable == null || landmarkGraph != graph || landmarkTable.getVersion() != snapshot.getVersion()) {
+            landmarkTable = LandmarkTable.build(snapshot, landmarkCount);
+            landmarkGraph = graph;
+        }
+        return landmarkTable;
+    }
+
+    private double estimate(GraphSnapshot snapshot, LandmarkTable landmarks, int node, int target) {
+        if (landmarks != null) {
+            return landmarks.lowerBound(node, target);
+        }
+        return heuristic(snapshot.getNode(node), snapshot.getNode(target));
+    }
+
     private double heuristic(Node from, Node to) {
         double dx = from.getX() - to.getX();
         double dy = from.getY() - to.getY();
@@ -19,82 +119,197 @@ public class AStarStrategy implements ShortestPathStrategy {
 
     @Override
     public PathResult findShortestPath(Graph graph, Node startNode, Node endNode) {
-        if (!graph.getNodes().contains(startNode) || !graph.getNodes().contains(endNode)) {
+        return findShortestPath(graph, startNode, endNode, SearchMonitor.NONE);
+    }
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
+        GraphSnapshot snapshot = graph.snapshot();
+        int start = snapshot.indexOf(startNode);
+        int end = snapshot.indexOf(endNode);
+        if (start < 0 || end < 0) {
             return new PathResult(null, Double.POSITIVE_INFINITY, 0);
         }
 
-        // openSet: nodes to be evaluated, ordered by fScore
-        PriorityQueue<Node> openSet = new PriorityQueue<>(Comparator.comparingDouble(node ->
-            // Access gScore and calculate fScore on-the-fly for comparison
-            // This requires gScore and fScore to be accessible (e.g., member maps)
-            getGScoreForNode(node) + heuristic(node, endNode)
-        ));
-
-        // closedSet: nodes already evaluated
-        Set<Node> closedSet = new HashSet<>();
-
-        // cameFrom: to reconstruct path
-        Map<Node, Node> cameFrom = new HashMap<>();
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        LandmarkTable landmarks = mode == HeuristicMode.LANDMARKS ? landmarksFor(graph, snapshot) : null;
+        if (isAnytime()) {
+            return findAnytime(snapshot, landmarks, start, end, monitor);
+        }
 
-        // gScore: cost from start to node
-        gScore = new HashMap<>(); // Made it a member variable for PQ access
-        for (Node node : graph.getNodes()) {
-            gScore.put(node, Double.POSITIVE_INFINITY);
+        // gScore (workspace distance): cost from start to node; hScore (workspace estimate): heuristic,
+        // computed when a node is first reached. Per-thread arrays, reset in O(1).
+        SearchWorkspace workspace = SearchWorkspace.acquire(n);
+        double startEstimate = estimate(snapshot, landmarks, start, end);
+        if (startEstimate == Double.POSITIVE_INFINITY) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Landmarks prove end is unreachable
         }
-        gScore.put(startNode, 0.0);
+        workspace.reach(start, 0.0, -1); // cameFrom: -1 marks the start of the path
+        workspace.setEstimate(start, startEstimate);
 
-        openSet.add(startNode);
+        // openSet: nodes to be evaluated, keyed by fScore = gScore + hScore
+        IndexedDaryHeap openSet = workspace.getHeap();
+        openSet.insert(start, startEstimate);
 
+        int settled = 0;
         while (!openSet.isEmpty()) {
-            Node current = openSet.poll();
-
-            if (current.equals(endNode)) {
-                return reconstructPath(cameFrom, current, gScore.get(endNode));
+            int current = openSet.poll();
+            if ((++settled & 1023) == 0) {
+                monitor.progress(settled / (double) n);
             }
 
-            closedSet.add(current);
-
-            for (Edge edge : graph.getEdges()) {
-                if (!edge.getSource().equals(current)) continue;
+            if (current == end) {
+                return new PathResult(workspace.pathTo(snapshot, end), workspace.distance(end), 0);
+            }
 
-                Node neighbor = edge.getTarget();
-                if (closedSet.contains(neighbor)) continue;
+            workspace.close(current); // closedSet: nodes already evaluated
+            double currentGScore = workspace.distance(current);
 
-                double tentativeGScore = gScore.get(current) + edge.getWeight();
+            for (int e = offsets[current]; e < offsets[current + 1]; e++) {
+                int neighbor = targets[e];
+                if (workspace.isClosed(neighbor)) continue;
 
-                if (tentativeGScore < gScore.getOrDefault(neighbor, Double.POSITIVE_INFINITY)) {
-                    cameFrom.put(neighbor, current);
-                    gScore.put(neighbor, tentativeGScore);
+                double tentativeGScore = currentGScore + weights[e];
 
-                    // If neighbor is in openSet with a higher gScore, update it.
-                    // If not in openSet, add it.
-                    // Standard Java PQ doesn't support efficient decrease-key.
-                    // So, we remove and re-add.
-                    boolean inOpenSet = openSet.contains(neighbor);
-                    if (inOpenSet) {
-                        openSet.remove(neighbor); // To re-prioritize
+                if (tentativeGScore < workspace.distance(neighbor)) {
+                    if (!workspace.isReached(neighbor)) {
+                        workspace.reach(neighbor, Double.POSITIVE_INFINITY, -1);
+                        workspace.setEstimate(neighbor, estimate(snapshot, landmarks, neighbor, end));
                     }
-                    openSet.add(neighbor); // Add or re-add with new priority
+                    double hScore = workspace.estimate(neighbor);
+                    if (hScore == Double.POSITIVE_INFINITY) continue; // Cannot reach endNode from there
+                    workspace.reach(neighbor, tentativeGScore, current);
+
+                    // If neighbor is in openSet with a higher fScore, decrease its key; otherwise add it.
+                    openSet.insertOrDecrease(neighbor, tentativeGScore + hScore);
                 }
             }
         }
         return new PathResult(null, Double.POSITIVE_INFINITY, 0); // No path found
     }
 
-    // Helper for PriorityQueue comparator to access gScore
-    private Map<Node, Double> gScore; // Member variable to store gScores
+    // ARA*: OPEN keyed by g + w * h; nodes improved after being closed wait in INCONS until the
+    // next iteration, which lowers w, re-keys OPEN and reopens every node
+    private PathResult findAnytime(GraphSnapshot snapshot, LandmarkTable landmarks, int start, int end,
+                                   SearchMonitor monitor) {
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        long budgetEnd = System.nanoTime() + timeBudgetMs * 1_000_000;
+
+        SearchWorkspace workspace = SearchWorkspace.acquire(n);
+        double startEstimate = estimate(snapshot, landmarks, start, end);
+        if (startEstimate == Double.POSITIVE_INFINITY) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Landmarks prove end is unreachable
+        }
+        workspace.reach(start, 0.0, -1);
+        workspace.setEstimate(start, startEstimate);
+        IndexedDaryHeap open = workspace.getHeap();
+        double weight = initialWeight;
+        open.insert(start, weight * startEstimate);
+
+        int[] inconsistent = new int[16];
+        int inconsistentCount = 0;
+        double lowerBound = startEstimate; // Lower bound on the optimal cost, raised after each complete iteration
+        double provenWeight = Double.POSITIVE_INFINITY; // Weight of the last complete iteration
+        long expansions = 0;
+
+        while (true) {
+            boolean interrupted = false;
+            while (!open.isEmpty() && open.peekKey() < workspace.distance(end)) {
+                if (expansions % BUDGET_CHECK_INTERVAL == 0 && workspace.distance(end) < Double.POSITIVE_INFINITY
+                        && outOfBudget(expansions, budgetEnd, monitor)) {
+                    interrupted = true;
+                    break;
+                }
+                int current = open.poll();
+                if ((++expansions & 1023) == 0) {
+                    monitor.progress(expansions / (double) n);
+                }
+                workspace.close(current);
+                double currentGScore = workspace.distance(current);
+                for (int e = offsets[current]; e < offsets[current + 1]; e++) {
+                    int neighbor = targets[e];
+                    double tentativeGScore = currentGScore + weights[e];
+                    if (tentativeGScore < workspace.distance(neighbor)) {
+                        if (!workspace.isReached(neighbor)) {
+                            workspace.reach(neighbor, Double.POSITIVE_INFINITY, -1);
+                            workspace.setEstimate(neighbor, estimate(snapshot, landmarks, neighbor, end));
+                        }
+                        double hScore = workspace.estimate(neighbor);
+                        if (hScore == Double.POSITIVE_INFINITY) continue; // Cannot reach endNode from there
+                        workspace.reach(neighbor, tentativeGScore, current);
+                        if (!workspace.isClosed(neighbor)) {
+                            open.insertOrDecrease(neighbor, tentativeGScore + weight * hScore);
+                        } else {
+                            if (inconsistentCount == inconsistent.length) inconsistent = Arrays.copyOf(inconsistent, inconsistentCount * 2);
+                            inconsistent[inconsistentCount++] = neighbor;
+                        }
+                    }
+                }
+            }
+            if (workspace.distance(end) == Double.POSITIVE_INFINITY) {
+                return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Search exhausted without a solution
+            }
+
+            if (!interrupted) {
+                // Every node that may still improve the solution is in OPEN or INCONS
+                double frontier = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < open.size(); i++) {
+                    int v = open.itemAt(i);
+                    frontier = Math.min(frontier, workspace.distance(v) + workspace.estimate(v));
+                }
+                for (int i = 0; i < inconsistentCount; i++) {
+                    int v = inconsistent[i];
+                    frontier = Math.min(frontier, workspace.distance(v) + workspace.estimate(v));
+                }
+                lowerBound = Math.max(lowerBound, frontier);
+                provenWeight = weight;
+            }
 
-    private double getGScoreForNode(Node node) {
-        return gScore.getOrDefault(node, Double.POSITIVE_INFINITY);
+            // The tree path may be cheaper than g(end) if an ancestor improved since
+            double cost = treePathCost(snapshot, workspace, end);
+            double bound = lowerBound > 0 ? Math.max(1.0, Math.min(provenWeight, cost / lowerBound)) : (cost > 0 ? provenWeight : 1.0);
+            if (interrupted || bound <= 1.0 || outOfBudget(expansions, budgetEnd, monitor)) {
+                return new PathResult(workspace.pathTo(snapshot, end), cost, 0, bound);
+            }
+
+            // Next iteration with a smaller weight
+            weight = Math.max(1.0, Math.min(weight - WEIGHT_STEP, bound));
+            for (int i = 0; i < inconsistentCount; i++) {
+                if (!open.contains(inconsistent[i])) open.insert(inconsistent[i], 0.0);
+            }
+            inconsistentCount = 0;
+            double nextWeight = weight;
+            open.rebuild(v -> workspace.distance(v) + nextWeight * workspace.estimate(v));
+            workspace.reopenAll();
+        }
     }
 
-    private PathResult reconstructPath(Map<Node, Node> cameFrom, Node current, double cost) {
-        LinkedList<Node> totalPath = new LinkedList<>();
-        totalPath.addFirst(current);
-        while (cameFrom.containsKey(current)) {
-            current = cameFrom.get(current);
-            totalPath.addFirst(current);
+    private boolean outOfBudget(long expansions, long budgetEnd, SearchMonitor monitor) {
+        return (expansionBudget > 0 && expansions >= expansionBudget)
+                || (timeBudgetMs > 0 && System.nanoTime() - budgetEnd >= 0)
+                || monitor.isPastDeadline();
+    }
+
+    // Cost of the tree path to 'end', along the lightest edge between consecutive nodes
+    private static double treePathCost(GraphSnapshot snapshot, SearchWorkspace workspace, int end) {
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        double cost = 0.0;
+        for (int v = end; workspace.parent(v) != -1; v = workspace.parent(v)) {
+            int u = workspace.parent(v);
+            double best = Double.POSITIVE_INFINITY;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (targets[e] == v) best = Math.min(best, weights[e]);
+            }
+            cost += best;
         }
-        return new PathResult(new ArrayList<>(totalPath), cost, 0);
+        return cost;
     }
 }
\ No newline at end of file
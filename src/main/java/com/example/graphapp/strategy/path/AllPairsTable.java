@@ -0,0 +1,330 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.GraphChange;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.IndexedDaryHeap;
+import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+import com.example.graphapp.util.SearchWorkspace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Table de plus courts chemins entre toutes les paires, sur des matrices plates indexées par les
+ * indices de la vue CSR : dist[i * n + j] et pred[i * n + j] (prédécesseur de j sur un plus court chemin
+ * depuis i, -1 si aucun). Un chemin se reconstruit à l'envers dans la seule ligne i.
+ * 1 000 nœuds occupent environ 12 Mo (8 Mo de double + 4 Mo d'int).
+ * Deux calculs : Floyd-Warshall par blocs (graphes denses) et Johnson (graphes creux).
+ * La table peut suivre les versions suivantes du graphe tant qu'il ne s'agit que d'ajouts d'arcs
+ * ou de baisses de poids (voir {@link #applyChanges(List)}).
+ */
+public final class AllPairsTable {
+    // Tile edge for the blocked Floyd-Warshall: 64 x 64 doubles = 32 KB, fits in L1/L2
+    private static final int BLOCK_SIZE = 64;
+    // Johnson sources handled per parallel round, between two cancellation checks
+    private static final int JOHNSON_SOURCES_PER_ROUND = 256;
+
+    private final GraphSnapshot snapshot;
+    private final int n;
+    private final double[] dist;
+    private final int[] pred;
+    private long version; // Graph version the matrices currently reflect
+
+    private AllPairsTable(GraphSnapshot snapshot, double[] dist, int[] pred) {
+        this.snapshot = snapshot;
+        this.version = snapshot.getVersion();
+        this.n = snapshot.getNodeCount();
+        this.dist = dist;
+        this.pred = pred;
+    }
+
+    /**
+     * Floyd-Warshall par blocs : pour chaque bloc pivot, le bloc diagonal, puis les blocs de sa
+     * ligne et de sa colonne, puis tous les autres blocs. Les blocs indépendants d'une même phase
+     * sont traités en parallèle sur le ForkJoinPool commun.
+     */
+    public static AllPairsTable floydWarshall(GraphSnapshot snapshot) {
+        return floydWarshall(snapshot, SearchMonitor.NONE);
+    }
+
+    /**
+     * Variante annulable : le moniteur est consulté avant chaque bloc pivot.
+     */
+    public static AllPairsTable floydWarshall(GraphSnapshot snapshot, SearchMonitor monitor) {
+        int n = snapshot.getNodeCount();
+        double[] dist = new double[n * n];
+        int[] pred = new int[n * n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(pred, -1);
+        for (int i = 0; i < n; i++) {
+            dist[i * n + i] = 0.0; // Distance to self is 0
+        }
+
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                // Handle parallel edges by taking the minimum weight
+                if (weights[e] < dist[u * n + v]) {
+                    dist[u * n + v] = weights[e];
+                    pred[u * n + v] = u;
+                }
+            }
+        }
+
+        int blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int kb = 0; kb < blocks; kb++) {
+            monitor.progress(kb / (double) blocks);
+            final int pivot = kb;
+            // Phase 1: diagonal block
+            relaxBlock(dist, pred, n, pivot, pivot, pivot);
+            // Phase 2: blocks in the pivot row and pivot column, which depend only on the diagonal
+            IntStream.range(0, 2 * blocks).parallel().forEach(t -> {
+                int other = t >> 1;
+                if (other == pivot) return;
+                if ((t & 1) == 0) relaxBlock(dist, pred, n, pivot, other, pivot);
+                else relaxBlock(dist, pred, n, other, pivot, pivot);
+            });
+            // Phase 3: every remaining block, using the now final row and column blocks
+            IntStream.range(0, blocks * blocks).parallel().forEach(t -> {
+                int ib = t / blocks;
+                int jb = t % blocks;
+                if (ib == pivot || jb == pivot) return;
+                relaxBlock(dist, pred, n, ib, jb, pivot);
+            });
+        }
+        AllPairsTable table = new AllPairsTable(snapshot, dist, pred);
+        if (!table.hasNegativeCycle()) {
+            // Predecessors copied across rows may form zero-weight loops: regrow each row as a tree
+            IntStream.range(0, n).parallel().forEach(table::rebuildRow);
+        }
+        return table;
+    }
+
+    // Row 'source' becomes a tree of tight edges (dist[s][u] + w == dist[s][v]) grown from the source, O(E)
+    private void rebuildRow(int source) {
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        int row = source * n;
+        int[] queue = new int[n];
+        boolean[] seen = new boolean[n];
+        queue[0] = source;
+        seen[source] = true;
+        pred[row + source] = -1;
+        for (int head = 0, tail = 1; head < tail; head++) {
+            int u = queue[head];
+            double du = dist[row + u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                double dv = dist[row + v];
+                if (seen[v] || du + weights[e] > dv + 1e-9 * Math.max(1.0, Math.abs(dv))) continue; // Rounding slack
+                seen[v] = true;
+                pred[row + v] = u;
+                queue[tail++] = v;
+            }
+        }
+    }
+
+    /**
+     * Johnson : potentiels h calculés une fois par Bellman-Ford (SPFA), poids repondérés
+     * w'(u, v) = w(u, v) + h(u) - h(v) >= 0, puis un Dijkstra par source sur le graphe repondéré,
+     * les sources étant traitées en parallèle. O(V·E·log V) au lieu de O(V³) : adapté aux graphes creux,
+     * poids négatifs compris. En présence d'un cycle négatif, le calcul se replie sur Floyd-Warshall,
+     * qui marque les paires concernées.
+     */
+    public static AllPairsTable johnson(GraphSnapshot snapshot, SearchMonitor monitor) {
+        double[] potentials = BellmanFordStrategy.potentials(snapshot, monitor);
+        if (potentials == null) {
+            return floydWarshall(snapshot, monitor);
+        }
+
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        double[] reweighted = new double[weights.length];
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                // Non-negative in exact arithmetic; clamp rounding noise so Dijkstra stays valid
+                reweighted[e] = Math.max(0.0, weights[e] + potentials[u] - potentials[targets[e]]);
+            }
+        }
+
+        double[] dist = new double[n * n];
+        int[] pred = new int[n * n];
+        for (int from = 0; from < n; from += JOHNSON_SOURCES_PER_ROUND) {
+            monitor.progress(from / (double) n);
+            IntStream.range(from, Math.min(n, from + JOHNSON_SOURCES_PER_ROUND)).parallel()
+                    .forEach(source -> johnsonRow(snapshot, reweighted, potentials, source, dist, pred));
+        }
+        return new AllPairsTable(snapshot, dist, pred);
+    }
+
+    // Dijkstra from 'source' on the reweighted graph; its tree is the row's predecessors
+    private static void johnsonRow(GraphSnapshot snapshot, double[] reweighted, double[] potentials,
+                                   int source, double[] dist, int[] pred) {
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        SearchWorkspace workspace = SearchWorkspace.acquire(n);
+        IndexedDaryHeap queue = workspace.getHeap();
+        workspace.reach(source, 0.0, -1);
+        queue.insert(source, 0.0);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            double du = workspace.distance(u);
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                double candidate = du + reweighted[e];
+                if (candidate < workspace.distance(v)) {
+                    workspace.reach(v, candidate, u);
+                    queue.insertOrDecrease(v, candidate);
+                }
+            }
+        }
+
+        int row = source * n;
+        for (int v = 0; v < n; v++) {
+            if (workspace.isReached(v)) {
+                dist[row + v] = workspace.distance(v) - potentials[source] + potentials[v];
+                pred[row + v] = workspace.parent(v);
+            } else {
+                dist[row + v] = Double.POSITIVE_INFINITY;
+                pred[row + v] = -1;
+            }
+        }
+        dist[row + source] = 0.0;
+    }
+
+    // dist[i][j] = min(dist[i][j], dist[i][k] + dist[k][j]) for i in block ib, j in block jb, k in block kb
+    private static void relaxBlock(double[] dist, int[] pred, int n, int ib, int jb, int kb) {
+        int iEnd = Math.min(n, (ib + 1) * BLOCK_SIZE);
+        int jStart = jb * BLOCK_SIZE;
+        int jEnd = Math.min(n, jStart + BLOCK_SIZE);
+        int kEnd = Math.min(n, (kb + 1) * BLOCK_SIZE);
+        for (int k = kb * BLOCK_SIZE; k < kEnd; k++) {
+            int kRow = k * n;
+            for (int i = ib * BLOCK_SIZE; i < iEnd; i++) {
+                int iRow = i * n;
+                double dik = dist[iRow + k];
+                if (dik == Double.POSITIVE_INFINITY) continue;
+                for (int j = jStart; j < jEnd; j++) {
+                    double candidate = dik + dist[kRow + j];
+                    if (candidate < dist[iRow + j]) {
+                        dist[iRow + j] = candidate;
+                        pred[iRow + j] = pred[kRow + j]; // Path from i to j ends like k's path to j
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Met la table à jour avec les modifications du journal du graphe, chacune en O(V²).
+     * Seuls les ajouts d'arcs et les baisses de poids sont incrémentaux ; pour tout autre
+     * changement (suppression, hausse de poids, nœuds) ou en présence d'un cycle négatif,
+     * la table n'est pas modifiée et la méthode retourne false : il faut la recalculer.
+     */
+    public boolean applyChanges(List<GraphChange> changes) {
+        if (hasNegativeCycle()) return false;
+        for (GraphChange change : changes) {
+            if (!isIncremental(change)) return false;
+        }
+        for (GraphChange change : changes) {
+            Edge edge = change.getEdge();
+            int u = snapshot.indexOf(edge.getSource());
+            int v = snapshot.indexOf(edge.getTarget());
+            if (u < 0 || v < 0) return false; // Node set no longer matches (cannot happen without node changes)
+            double w = change.getNewWeight();
+            if (dist[v * n + u] + w < 0) return false; // The new edge closes a negative cycle
+            relaxThroughEdge(u, v, w);
+            version = change.getVersion();
+        }
+        return true;
+    }
+
+    /**
+     * Vrai si la modification peut être appliquée sans recalcul complet (ajout d'arc ou baisse de poids).
+     */
+    public static boolean isIncremental(GraphChange change) {
+        return change.getType() == GraphChange.Type.EDGE_ADDED
+                || (change.getType() == GraphChange.Type.WEIGHT_CHANGED && change.getNewWeight() < change.getOldWeight());
+    }
+
+    // Every path i -> j may now use u -> v: dist[i][j] = min(dist[i][j], dist[i][u] + w + dist[v][j]).
+    // Without negative cycles row v and column u cannot improve, so they are safe to read while updating.
+    private void relaxThroughEdge(int u, int v, double w) {
+        if (w >= dist[u * n + v]) return; // Not shorter than the current u -> v distance
+        int vRow = v * n;
+        for (int i = 0; i < n; i++) {
+            int iRow = i * n;
+            double diu = dist[iRow + u];
+            if (diu == Double.POSITIVE_INFINITY) continue;
+            double viaEdge = diu + w;
+            for (int j = 0; j < n; j++) {
+                double candidate = viaEdge + dist[vRow + j];
+                if (candidate < dist[iRow + j]) {
+                    dist[iRow + j] = candidate;
+                    pred[iRow + j] = j == v ? u : pred[vRow + j];
+                }
+            }
+        }
+    }
+
+    public boolean hasNegativeCycle() {
+        for (int i = 0; i < n; i++) {
+            if (dist[i * n + i] < 0) return true;
+        }
+        return false;
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public double distance(int from, int to) {
+        return dist[from * n + to];
+    }
+
+    /**
+     * Reconstruit le chemin en remontant les prédécesseurs de la ligne 'from'.
+     * Coût NEGATIVE_INFINITY si le chemin traverse un cycle de poids négatif.
+     */
+    public PathResult path(int from, int to) {
+        double cost = dist[from * n + to];
+        if (cost == Double.POSITIVE_INFINITY) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0); // No path
+        }
+        List<Node> path = new ArrayList<>();
+        path.add(snapshot.getNode(to));
+        int row = from * n;
+        int v = to;
+        while (v != from) {
+            v = pred[row + v];
+            if (v < 0) return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Path broken
+            path.add(snapshot.getNode(v));
+            if (path.size() > n) { // Cycle in path reconstruction: negative cycle
+                System.err.println("Floyd-Warshall: Path reconstruction error or cycle detected where not expected.");
+                return new PathResult(null, Double.NEGATIVE_INFINITY, 0);
+            }
+        }
+        if (dist[from * n + from] < 0 || dist[to * n + to] < 0) {
+            return new PathResult(null, Double.NEGATIVE_INFINITY, 0); // Endpoint lies on a negative cycle
+        }
+        Collections.reverse(path);
+        return new PathResult(path, cost, 0);
+    }
+}
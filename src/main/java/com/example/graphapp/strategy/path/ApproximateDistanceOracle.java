@@ -0,0 +1,204 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.PathResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Oracle de distances approchées par esquisse de repères : pour k repères L, les tables d(v, L) et
+ * d(L, v) de tous les nœuds (O(k·n) en mémoire, contre O(n²) pour une table exacte). Une requête
+ * propose le meilleur détour par un repère, min d(s, L) + d(L, t), qui est un vrai chemin, et le
+ * compare à la borne inférieure ALT des mêmes tables : le rapport borne l'étirement de la réponse.
+ * L'oracle ne répond que si cet étirement certifié reste sous la borne configurée ; sinon la requête
+ * revient au calcul exact. Le chemin est reconstruit sans arbre stocké, en suivant les arcs « serrés »
+ * (d(v, L) = w(v, x) + d(x, L)) vers le repère puis depuis lui. Lié à une version du graphe ;
+ * suppose des poids non négatifs.
+ */
+public final class ApproximateDistanceOracle {
+    private final GraphSnapshot snapshot;
+    private final LandmarkTable landmarks;
+    private final double stretchBound;
+
+    private ApproximateDistanceOracle(GraphSnapshot snapshot, LandmarkTable landmarks, double stretchBound) {
+        this.snapshot = snapshot;
+        this.landmarks = landmarks;
+        this.stretchBound = stretchBound;
+    }
+
+    /**
+     * Précalcule les tables de 'landmarkCount' repères (2 Dijkstra par repère).
+     * @throws IllegalArgumentException si le graphe contient des poids négatifs ou si stretchBound < 1.
+     */
+    public static ApproximateDistanceOracle build(GraphSnapshot snapshot, int landmarkCount, double stretchBound) {
+        if (snapshot.hasNegativeWeights()) {
+            throw new IllegalArgumentException("The distance oracle requires non-negative edge weights");
+        }
+        if (!(stretchBound >= 1.0)) {
+            throw new IllegalArgumentException("Stretch bound must be at least 1: " + stretchBound);
+        }
+        return new ApproximateDistanceOracle(snapshot, LandmarkTable.build(snapshot, landmarkCount), stretchBound);
+    }
+
+    /**
+     * Estimation de d(source, target) (indices de la vue CSR) : longueur d'un chemin réel, jamais
+     * inférieure à la distance exacte ; +infini si aucun repère ne relie les deux nœuds.
+     */
+    public double estimate(int source, int target) {
+        return source == target ? 0.0 : landmarks.upperBound(source, target);
+    }
+
+    /**
+     * Étirement garanti de {@link #estimate} : rapport à la borne inférieure ALT (+infini si non borné).
+     */
+    public double certifiedStretch(int source, int target) {
+        return stretch(estimate(source, target), landmarks.lowerBound(source, target));
+    }
+
+    private static double stretch(double upper, double lower) {
+        if (upper == lower) return 1.0; // Includes 0 = 0 and a proven unreachable target
+        return lower > 0 ? upper / lower : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Chemin approché de 'source' vers 'target', marqué approché et accompagné de son étirement
+     * certifié ; null si cet étirement dépasse la borne de l'oracle (la requête doit être calculée
+     * exactement). Une cible prouvée inaccessible par les tables donne un résultat sans chemin.
+     */
+    public PathResult query(int source, int target) {
+        if (source == target) {
+            List<Node> single = new ArrayList<>(1);
+            single.add(snapshot.getNode(source));
+            return new PathResult(single, 0.0, 0, 1.0, true);
+        }
+        double lower = landmarks.lowerBound(source, target);
+        if (lower == Double.POSITIVE_INFINITY) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0, 1.0, true);
+        }
+        int landmark = landmarks.closestLandmark(source, target);
+        double upper = landmarks.upperBound(source, target);
+        if (upper == Double.POSITIVE_INFINITY || stretch(upper, lower) > stretchBound) {
+            return null;
+        }
+
+        int hub = landmarks.getLandmarkNode(landmark);
+        List<Integer> walk = new ArrayList<>();
+        if (!walkToLandmark(source, landmark, hub, walk) || !walkFromLandmark(target, landmark, hub, walk)) {
+            return null; // Rounding broke a tight edge: leave the query to the exact strategies
+        }
+        // The two halves may cross: erasing the loops only shortens the path
+        List<Integer> simple = eraseLoops(walk);
+        List<Node> nodes = new ArrayList<>(simple.size());
+        double cost = 0.0;
+        for (int i = 0; i < simple.size(); i++) {
+            nodes.add(snapshot.getNode(simple.get(i)));
+            if (i > 0) {
+                cost += lightestEdge(simple.get(i - 1), simple.get(i));
+            }
+        }
+        return new PathResult(nodes, cost, 0, Math.max(1.0, stretch(cost, lower)), true);
+    }
+
+    // Appends source .. hub, following out-edges (v, x) with d(v, L) = w + d(x, L); tree edges always qualify
+    private boolean walkToLandmark(int source, int landmark, int hub, List<Integer> walk) {
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        int v = source;
+        walk.add(v);
+        for (int steps = 0; v != hub; steps++) {
+            if (steps == offsets.length) return false; // Zero-weight cycle of tight edges
+            double dv = landmarks.distanceToLandmark(landmark, v);
+            int next = -1;
+            for (int e = offsets[v]; e < offsets[v + 1] && next < 0; e++) {
+                int x = targets[e];
+                double dx = landmarks.distanceToLandmark(landmark, x);
+                if (x != v && weights[e] + dx == dv) next = x;
+            }
+            if (next < 0) return false;
+            v = next;
+            walk.add(v);
+        }
+        return true;
+    }
+
+    // Appends the path hub .. target (hub excluded, already in the walk), found backwards over
+    // in-edges (x, v) with d(L, v) = d(L, x) + w
+    private boolean walkFromLandmark(int target, int landmark, int hub, List<Integer> walk) {
+        int[] inOffsets = snapshot.getIncomingOffsets();
+        int[] inSources = snapshot.getIncomingSources();
+        double[] inWeights = snapshot.getIncomingWeights();
+        List<Integer> backwards = new ArrayList<>();
+        int v = target;
+        for (int steps = 0; v != hub; steps++) {
+            if (steps == inOffsets.length) return false;
+            backwards.add(v);
+            double dv = landmarks.distanceFromLandmark(landmark, v);
+            int previous = -1;
+            for (int e = inOffsets[v]; e < inOffsets[v + 1] && previous < 0; e++) {
+                int x = inSources[e];
+                double dx = landmarks.distanceFromLandmark(landmark, x);
+                if (x != v && dx + inWeights[e] == dv) previous = x;
+            }
+            if (previous < 0) return false;
+            v = previous;
+        }
+        for (int i = backwards.size() - 1; i >= 0; i--) {
+            walk.add(backwards.get(i));
+        }
+        return true;
+    }
+
+    private static List<Integer> eraseLoops(List<Integer> walk) {
+        List<Integer> path = new ArrayList<>(walk.size());
+        Map<Integer, Integer> position = new HashMap<>();
+        for (int v : walk) {
+            Integer seen = position.get(v);
+            if (seen != null) {
+                for (int i = path.size() - 1; i > seen; i--) {
+                    position.remove(path.remove(i));
+                }
+            } else {
+                position.put(v, path.size());
+                path.add(v);
+            }
+        }
+        return path;
+    }
+
+    private double lightestEdge(int u, int v) {
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        double best = Double.POSITIVE_INFINITY;
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+            if (targets[e] == v) best = Math.min(best, weights[e]);
+        }
+        return best;
+    }
+
+    public double getStretchBound() {
+        return stretchBound;
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.getLandmarkCount();
+    }
+
+    // Entries of the two distance tables (2·k·n), against n² for an exact distance table
+    public long getTableEntryCount() {
+        return 2L * landmarks.getLandmarkCount() * snapshot.getNodeCount();
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+}
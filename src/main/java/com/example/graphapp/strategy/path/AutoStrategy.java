@@ -0,0 +1,128 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphChange;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+
+import java.util.List;
+
+/**
+ * Stratégie « Auto » : choisit pour chaque requête l'algorithme exact le moins coûteux d'après les
+ * statistiques maintenues par le graphe (poids négatifs, poids unitaires, taille) et le nombre de
+ * requêtes reçues depuis la dernière modification (stabilité de la version, débit de requêtes).
+ * Les poids négatifs ne sont jamais confiés à Dijkstra, A* ou BFS.
+ */
+public class AutoStrategy implements ShortestPathStrategy {
+    public enum Route { BFS, DIJKSTRA, ALT, BELLMAN_FORD, ALL_PAIRS }
+
+    // Largest graph for which the all-pairs table is considered (two n x n matrices: ~48 MB at 2 000 nodes)
+    private static final int ALL_PAIRS_MAX_NODES = 2000;
+    // The tiled, parallel Floyd-Warshall runs well below the n^3 operation count of the estimate
+    private static final double ALL_PAIRS_SPEEDUP = 8.0;
+    // Landmark tables cost about 2 * 8 full searches; they pay off once a version serves this many queries
+    private static final int LANDMARK_MIN_QUERIES = 32;
+
+    private final ShortestPathStrategy bfs = new BFSStrategy();
+    private final ShortestPathStrategy dijkstra = new DijkstraStrategy();
+    private final ShortestPathStrategy alt = new AStarStrategy(AStarStrategy.HeuristicMode.LANDMARKS);
+    private final ShortestPathStrategy bellmanFord = new BellmanFordStrategy();
+    private final ShortestPathStrategy allPairs = new FloydWarshallStrategy();
+
+    // Query statistics of the current graph version
+    private Graph statsGraph;
+    private long statsVersion = -1;
+    private long queriesAtVersion;
+    private long allPairsVersion = -1; // Version of the last all-pairs table, -1 if none
+    private volatile Route lastRoute;
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode) {
+        return findShortestPath(graph, startNode, endNode, SearchMonitor.NONE);
+    }
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
+        GraphSnapshot snapshot = graph.snapshot();
+        Route route = plan(graph, snapshot);
+        lastRoute = route;
+        return strategyFor(route).findShortestPath(graph, startNode, endNode, monitor);
+    }
+
+    /**
+     * Algorithme retenu pour la dernière requête (null avant la première).
+     */
+    public Route getLastRoute() {
+        return lastRoute;
+    }
+
+    synchronized Route plan(Graph graph, GraphSnapshot snapshot) {
+        long version = snapshot.getVersion();
+        if (graph != statsGraph) {
+            statsGraph = graph;
+            statsVersion = version;
+            queriesAtVersion = 0;
+            allPairsVersion = -1;
+        } else if (version != statsVersion) {
+            statsVersion = version;
+            queriesAtVersion = 0;
+        }
+        queriesAtVersion++;
+
+        // An existing table stays the cheapest answer as long as it is current or incrementally updatable
+        if (allPairsVersion >= 0 && allPairsReusable(graph)) {
+            allPairsVersion = version;
+            return Route.ALL_PAIRS;
+        }
+
+        double n = snapshot.getNodeCount();
+        double m = snapshot.getEdgeCount();
+        boolean negative = graph.hasNegativeWeights();
+        boolean unit = !negative && graph.hasUnitWeights();
+        double perQueryCost;
+        if (negative) {
+            perQueryCost = m * Math.sqrt(n); // Rough SPFA estimate, far below the n * m worst case
+        } else if (unit) {
+            perQueryCost = n + m;
+        } else {
+            perQueryCost = (n + m) * Math.log(n + 2) / Math.log(2);
+        }
+        double allPairsCost = n * n * n / ALL_PAIRS_SPEEDUP;
+        if (n <= ALL_PAIRS_MAX_NODES && queriesAtVersion * perQueryCost >= allPairsCost) {
+            allPairsVersion = version;
+            return Route.ALL_PAIRS;
+        }
+
+        if (negative) return Route.BELLMAN_FORD;
+        if (unit) return Route.BFS;
+        if (queriesAtVersion >= LANDMARK_MIN_QUERIES) return Route.ALT;
+        return Route.DIJKSTRA;
+    }
+
+    private boolean allPairsReusable(Graph graph) {
+        if (graph.getVersion() == allPairsVersion) return true;
+        List<GraphChange> changes = graph.getChangesSince(allPairsVersion);
+        if (changes == null) return false;
+        for (GraphChange change : changes) {
+            if (!AllPairsTable.isIncremental(change)) return false;
+        }
+        return true;
+    }
+
+    private ShortestPathStrategy strategyFor(Route route) {
+        switch (route) {
+            case BFS:
+                return bfs;
+            case ALT:
+                return alt;
+            case BELLMAN_FORD:
+                return bellmanFord;
+            case ALL_PAIRS:
+                return allPairs;
+            default:
+                return dijkstra;
+        }
+    }
+}
@@ -1,59 +1,37 @@
 package com.example.graphapp.strategy.path;
 
-import com.example.graphapp.model.Edge;
 import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
 import com.example.graphapp.model.Node;
 import com.example.graphapp.util.PathResult;
-
-import java.util.*;
+import com.example.graphapp.util.SearchMonitor;
 
 public class BFSStrategy implements ShortestPathStrategy {
     @Override
     public PathResult findShortestPath(Graph graph, Node startNode, Node endNode) {
+        return findShortestPath(graph, startNode, endNode, SearchMonitor.NONE);
+    }
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
         // BFS considère les poids des arêtes comme 1
-        if (!graph.getNodes().contains(startNode) || !graph.getNodes().contains(endNode)) {
+        GraphSnapshot snapshot = graph.snapshot();
+        int start = snapshot.indexOf(startNode);
+        int end = snapshot.indexOf(endNode);
+        if (start < 0 || end < 0) {
             return new PathResult(null, Double.POSITIVE_INFINITY, 0);
         }
 
-        Queue<Node> queue = new LinkedList<>();
-        Map<Node, Node> predecessors = new HashMap<>();
-        Map<Node, Integer> distances = new HashMap<>(); // Distance en nombre d'arêtes
-
-        queue.add(startNode);
-        predecessors.put(startNode, null);
-        distances.put(startNode, 0);
-
-        Node current = null;
-        while (!queue.isEmpty()) {
-            current = queue.poll();
-            if (current.equals(endNode)) {
-                break; // Path found
+        // Frontière et ensemble visité en bitsets, direction choisie à chaque niveau ;
+        // un moteur par thread, rattaché à la vue du graphe le temps de la requête
+        BitsetBfs bfs = BitsetBfs.acquire(snapshot);
+        try {
+            if (!bfs.run(start, end, monitor)) {
+                 return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Pas de chemin
             }
-
-            for (Edge edge : graph.getEdges()) {
-                if (edge.getSource().equals(current)) {
-                    Node neighbor = edge.getTarget();
-                    if (!predecessors.containsKey(neighbor)) { // Si non visité
-                        predecessors.put(neighbor, current);
-                        distances.put(neighbor, distances.get(current) + 1);
-                        queue.add(neighbor);
-                    }
-                }
-            }
-        }
-        
-        if (current == null || !current.equals(endNode)) {
-             return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Pas de chemin
-        }
-
-
-        List<Node> path = new LinkedList<>();
-        Node step = endNode;
-        while (step != null) {
-            path.add(0, step);
-            step = predecessors.get(step);
+            return new PathResult(snapshot.buildPath(bfs.getParents(), end), (double) bfs.getDepth(end), 0);
+        } finally {
+            bfs.release(); // Does not pin the snapshot until this thread's next search
         }
-        
-        return new PathResult(path, (double) distances.get(endNode), 0);
     }
-}
\ No newline at end of file
+}
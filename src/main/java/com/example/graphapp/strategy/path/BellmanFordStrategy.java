@@ -1,75 +1,290 @@
 package com.example.graphapp.strategy.path;
 
-import com.example.graphapp.model.Edge;
 import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
 import com.example.graphapp.model.Node;
 import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+/**
+ * Bellman-Ford, supporte les poids négatifs. Trois variantes :
+ * CLASSIC (au plus |V|-1 passes complètes), SPFA (file des nœuds dont la distance a changé, arrêt au point fixe)
+ * et PARALLEL (passes synchrones en mode « pull » sur les arcs entrants, réparties sur le ForkJoinPool commun).
+ */
 public class BellmanFordStrategy implements ShortestPathStrategy {
+    public enum Mode { CLASSIC, SPFA, PARALLEL }
+
+    // Nodes per parallel task in PARALLEL mode
+    private static final int PARALLEL_CHUNK = 1024;
+
+    private final Mode mode;
+
+    public BellmanFordStrategy() {
+        this(Mode.SPFA);
+    }
+
+    public BellmanFordStrategy(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public String getName() {
+        return getClass().getSimpleName() + "(" + mode + ")";
+    }
+
     @Override
     public PathResult findShortestPath(Graph graph, Node startNode, Node endNode) {
-        if (!graph.getNodes().contains(startNode) || !graph.getNodes().contains(endNode)) {
+        return findShortestPath(graph, startNode, endNode, SearchMonitor.NONE);
+    }
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
+        GraphSnapshot snapshot = graph.snapshot();
+        int start = snapshot.indexOf(startNode);
+        int end = snapshot.indexOf(endNode);
+        if (start < 0 || end < 0) {
             return new PathResult(null, Double.POSITIVE_INFINITY, 0);
         }
 
-        Map<Node, Double> distances = new HashMap<>();
-        Map<Node, Node> predecessors = new HashMap<>();
-        List<Node> nodes = graph.getNodes();
-        List<Edge> edges = graph.getEdges();
+        int n = snapshot.getNodeCount();
+        double[] distances = new double[n];
+        int[] predecessors = new int[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, -1);
+        distances[start] = 0.0;
+
+        boolean negativeCycle;
+        switch (mode) {
+            case CLASSIC:
+                negativeCycle = !relaxClassic(snapshot, distances, predecessors, monitor);
+                break;
+            case PARALLEL:
+                negativeCycle = !relaxParallel(snapshot, distances, predecessors, monitor);
+                break;
+            default:
+                negativeCycle = !relaxQueue(snapshot, new int[] {start}, distances, predecessors, monitor);
+        }
+        if (negativeCycle) {
+            System.err.println("Graph contains a negative-weight cycle accessible from the source.");
+            // For simplicity, we'll return no path in case of a negative cycle impacting the path to endNode.
+            // A full negative cycle detection might be more complex if it doesn't directly impact the path.
+            return new PathResult(null, Double.NEGATIVE_INFINITY, 0); // Indicate error or cycle
+        }
+
+        if (distances[end] == Double.POSITIVE_INFINITY) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0); // No path
+        }
 
-        for (Node node : nodes) {
-            distances.put(node, Double.POSITIVE_INFINITY);
-            predecessors.put(node, null);
+        List<Node> path = snapshot.buildPath(predecessors, end);
+        // Check if path reconstruction actually reached startNode
+        if (path.isEmpty() || !path.get(0).equals(startNode)) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Should not happen if distance finite and no neg cycle
         }
-        distances.put(startNode, 0.0);
-
-        // Relax edges |V|-1 times
-        for (int i = 0; i < nodes.size() - 1; i++) {
-            for (Edge edge : edges) {
-                Node u = edge.getSource();
-                Node v = edge.getTarget();
-                double weight = edge.getWeight();
-                if (distances.get(u) != Double.POSITIVE_INFINITY && distances.get(u) + weight < distances.get(v)) {
-                    distances.put(v, distances.get(u) + weight);
-                    predecessors.put(v, u);
+
+        return new PathResult(path, distances[end], 0);
+    }
+
+    /**
+     * Distances depuis 'source' vers tous les nœuds (mode SPFA).
+     * Retourne null si un cycle de poids négatif est accessible depuis la source.
+     */
+    static double[] shortestDistances(GraphSnapshot snapshot, int source) {
+        int n = snapshot.getNodeCount();
+        double[] distances = new double[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        distances[source] = 0.0;
+        return relaxQueue(snapshot, new int[] {source}, distances, new int[n], SearchMonitor.NONE) ? distances : null;
+    }
+
+    /**
+     * Arbre des plus courts chemins depuis 'source' (mode SPFA) : remplit 'distances' et
+     * 'predecessors' (-1 pour la racine et les nœuds non atteints).
+     * Retourne false si un cycle de poids négatif est accessible depuis la source.
+     */
+    static boolean shortestTree(GraphSnapshot snapshot, int source, double[] distances, int[] predecessors) {
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, -1);
+        distances[source] = 0.0;
+        return relaxQueue(snapshot, new int[] {source}, distances, predecessors, SearchMonitor.NONE);
+    }
+
+    /**
+     * Arbre des plus courts chemins depuis plusieurs sources distinctes, toutes au coût 0
+     * (mode SPFA). Retourne false si un cycle de poids négatif est accessible depuis l'une d'elles.
+     */
+    static boolean shortestTree(GraphSnapshot snapshot, int[] sources, double[] distances, int[] predecessors) {
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, -1);
+        for (int source : sources) {
+            distances[source] = 0.0;
+        }
+        return relaxQueue(snapshot, sources, distances, predecessors, SearchMonitor.NONE);
+    }
+
+    /**
+     * Potentiels de Johnson : distances depuis une source virtuelle reliée à chaque nœud par un arc
+     * de poids 0, soit h(v) <= 0 et h(u) + w(u, v) >= h(v) pour tout arc.
+     * Retourne null si le graphe contient un cycle de poids négatif.
+     */
+    static double[] potentials(GraphSnapshot snapshot, SearchMonitor monitor) {
+        int n = snapshot.getNodeCount();
+        int[] all = new int[n];
+        for (int v = 0; v < n; v++) {
+            all[v] = v; // The virtual source's first round: every node at distance 0, queued once
+        }
+        double[] distances = new double[n];
+        return relaxQueue(snapshot, all, distances, new int[n], monitor) ? distances : null;
+    }
+
+    // Relax edges |V|-1 times; returns false if a negative cycle is reachable
+    private static boolean relaxClassic(GraphSnapshot snapshot, double[] distances, int[] predecessors, SearchMonitor monitor) {
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        for (int i = 0; i < n - 1; i++) {
+            monitor.progress(i / (double) (n - 1));
+            boolean changed = false;
+            for (int u = 0; u < n; u++) {
+                if (distances[u] == Double.POSITIVE_INFINITY) continue;
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (distances[u] + weights[e] < distances[v]) {
+                        distances[v] = distances[u] + weights[e];
+                        predecessors[v] = u;
+                        changed = true;
+                    }
                 }
             }
+            if (!changed) return true; // Fixed point reached: no negative cycle either
         }
 
         // Check for negative-weight cycles
-        for (Edge edge : edges) {
-            Node u = edge.getSource();
-            Node v = edge.getTarget();
-            double weight = edge.getWeight();
-            if (distances.get(u) != Double.POSITIVE_INFINITY && distances.get(u) + weight < distances.get(v)) {
-                // Negative cycle detected
-                System.err.println("Graph contains a negative-weight cycle accessible from the source.");
-                // Optionally, reconstruct and return the cycle, or just indicate an error.
-                // For simplicity, we'll return no path in case of a negative cycle impacting the path to endNode.
-                // A full negative cycle detection might be more complex if it doesn't directly impact the path.
-                return new PathResult(null, Double.NEGATIVE_INFINITY, 0); // Indicate error or cycle
+        for (int u = 0; u < n; u++) {
+            if (distances[u] == Double.POSITIVE_INFINITY) continue;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (distances[u] + weights[e] < distances[targets[e]]) {
+                    return false;
+                }
             }
         }
+        return true;
+    }
+
+    /**
+     * SPFA : seuls les arcs sortants des nœuds dont la distance vient de baisser sont relâchés,
+     * et l'algorithme s'arrête dès que la file est vide. Un nœud remis en file |V| fois
+     * signale un cycle de poids négatif. Sans borne utile sur le nombre de passages, seule
+     * l'annulation est vérifiée (pas de progression).
+     */
+    private static boolean relaxQueue(GraphSnapshot snapshot, int[] sources, double[] distances, int[] predecessors,
+                                      SearchMonitor monitor) {
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+
+        int[] queue = new int[n]; // Circular buffer: a node is never in the queue twice
+        boolean[] inQueue = new boolean[n];
+        int[] enqueueCount = new int[n];
+        int head = 0;
+        int size = 0;
+        for (int source : sources) {
+            queue[size++] = source;
+            inQueue[source] = true;
+            enqueueCount[source] = 1;
+        }
+        // With several sources (virtual source), the graph searched has one more node
+        int enqueueLimit = sources.length > 1 ? n + 2 : n + 1;
 
-        if (distances.get(endNode) == Double.POSITIVE_INFINITY) {
-            return new PathResult(null, Double.POSITIVE_INFINITY, 0); // No path
+        int polls = 0;
+        while (size > 0) {
+            if ((++polls & 1023) == 0) {
+                monitor.checkpoint();
+            }
+            int u = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+            inQueue[u] = false;
+            double du = distances[u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                double candidate = du + weights[e];
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    predecessors[v] = u;
+                    if (!inQueue[v]) {
+                        if (++enqueueCount[v] >= enqueueLimit) {
+                            return false;
+                        }
+                        int tail = head + size;
+                        queue[tail >= n ? tail - n : tail] = v;
+                        size++;
+                        inQueue[v] = true;
+                    }
+                }
+            }
         }
+        return true;
+    }
+
+    /**
+     * Passes synchrones : à chaque passe, chaque nœud recalcule sa distance à partir des distances
+     * de la passe précédente via ses arcs entrants. Chaque nœud n'écrit que sa propre case,
+     * les tranches de nœuds sont donc traitées en parallèle sans synchronisation.
+     * Arrêt dès qu'une passe ne change plus rien ; un changement à la passe |V| signale un cycle négatif.
+     */
+    private static boolean relaxParallel(GraphSnapshot snapshot, double[] distances, int[] predecessors, SearchMonitor monitor) {
+        int n = snapshot.getNodeCount();
+        int[] inOffsets = snapshot.getIncomingOffsets();
+        int[] sources = snapshot.getIncomingSources();
+        double[] inWeights = snapshot.getIncomingWeights();
+        int chunks = (n + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
 
-        LinkedList<Node> path = new LinkedList<>();
-        Node current = endNode;
-        while (current != null) {
-            path.addFirst(current);
-            if (current.equals(startNode)) break;
-            current = predecessors.get(current);
+        double[] current = distances;
+        double[] updated = distances.clone();
+        for (int round = 1; round <= n; round++) {
+            monitor.progress((round - 1) / (double) n);
+            final double[] previous = current;
+            final double[] next = updated;
+            boolean changed = IntStream.range(0, chunks).parallel().map(chunk -> {
+                int changes = 0;
+                int to = Math.min(n, (chunk + 1) * PARALLEL_CHUNK);
+                for (int v = chunk * PARALLEL_CHUNK; v < to; v++) {
+                    double best = previous[v];
+                    int bestPredecessor = -1;
+                    for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        double du = previous[sources[e]];
+                        if (du == Double.POSITIVE_INFINITY) continue;
+                        double candidate = du + inWeights[e];
+                        if (candidate < best) {
+                            best = candidate;
+                            bestPredecessor = sources[e];
+                        }
+                    }
+                    next[v] = best;
+                    if (bestPredecessor >= 0) {
+                        predecessors[v] = bestPredecessor;
+                        changes++;
+                    }
+                }
+                return changes;
+            }).sum() > 0;
+            current = next;
+            updated = previous;
+            if (!changed) break;
+            if (round == n) return false; // Still improving after |V|-1 rounds
         }
-         // Check if path reconstruction actually reached startNode
-        if (path.isEmpty() || !path.getFirst().equals(startNode)) {
-            return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Should not happen if distance finite and no neg cycle
+        if (current != distances) {
+            System.arraycopy(current, 0, distances, 0, n);
         }
-
-        return new PathResult(new ArrayList<>(path), distances.get(endNode), 0);
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.IndexedDaryHeap;
+import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+import com.example.graphapp.util.SearchWorkspace;
+
+import java.util.*;
+
+/**
+ * Dijkstra bidirectionnel : une recherche avant depuis le départ sur les arcs sortants et une
+ * recherche arrière depuis l'arrivée sur les arcs entrants, arrêtées par le critère de rencontre
+ * standard (minAvant + minArrière >= meilleur coût connu). Suppose des poids non négatifs.
+ */
+public class BidirectionalDijkstraStrategy implements ShortestPathStrategy {
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode) {
+        return findShortestPath(graph, startNode, endNode, SearchMonitor.NONE);
+    }
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
+        GraphSnapshot snapshot = graph.snapshot();
+        int start = snapshot.indexOf(startNode);
+        int end = snapshot.indexOf(endNode);
+        if (start < 0 || end < 0) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0);
+        }
+        if (start == end) {
+            return new PathResult(new ArrayList<>(List.of(startNode)), 0.0, 0);
+        }
+
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        int[] incomingOffsets = snapshot.getIncomingOffsets();
+        int[] incomingSources = snapshot.getIncomingSources();
+        double[] incomingWeights = snapshot.getIncomingWeights();
+
+        // forward parent: prédécesseur vers le départ ; backward parent: successeur vers l'arrivée
+        SearchWorkspace forward = SearchWorkspace.acquire(n, SearchWorkspace.FORWARD);
+        SearchWorkspace backward = SearchWorkspace.acquire(n, SearchWorkspace.BACKWARD);
+        IndexedDaryHeap forwardQueue = forward.getHeap();
+        IndexedDaryHeap backwardQueue = backward.getHeap();
+        forward.reach(start, 0.0, -1);
+        backward.reach(end, 0.0, -1);
+        forwardQueue.insert(start, 0.0);
+        backwardQueue.insert(end, 0.0);
+
+        double bestCost = Double.POSITIVE_INFINITY; // mu
+        int meetingNode = -1;
+
+        int settled = 0;
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            if ((++settled & 1023) == 0) {
+                monitor.progress(settled / (double) n);
+            }
+            double forwardMin = forwardQueue.peekKey();
+            double backwardMin = backwardQueue.peekKey();
+            if (forwardMin + backwardMin >= bestCost) {
+                break; // Aucun chemin passant par un nœud non traité ne peut faire mieux
+            }
+
+            // Expand the side with the smaller tentative distance
+            if (forwardMin <= backwardMin) {
+                int u = forwardQueue.poll();
+                double distanceToU = forward.distance(u);
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    double distanceThroughU = distanceToU + weights[e];
+                    if (distanceThroughU < forward.distance(v)) {
+                        forward.reach(v, distanceThroughU, u);
+                        forwardQueue.insertOrDecrease(v, distanceThroughU);
+                    }
+                    double remaining = backward.distance(v);
+                    if (remaining != Double.POSITIVE_INFINITY && distanceThroughU + remaining < bestCost) {
+                        bestCost = distanceThroughU + remaining;
+                        meetingNode = v;
+                    }
+                }
+            } else {
+                int u = backwardQueue.poll();
+                double distanceFromU = backward.distance(u);
+                for (int e = incomingOffsets[u]; e < incomingOffsets[u + 1]; e++) {
+                    int v = incomingSources[e];
+                    double distanceThroughU = distanceFromU + incomingWeights[e];
+                    if (distanceThroughU < backward.distance(v)) {
+                        backward.reach(v, distanceThroughU, u);
+                        backwardQueue.insertOrDecrease(v, distanceThroughU);
+                    }
+                    double covered = forward.distance(v);
+                    if (covered != Double.POSITIVE_INFINITY && distanceThroughU + covered < bestCost) {
+                        bestCost = distanceThroughU + covered;
+                        meetingNode = v;
+                    }
+                }
+            }
+        }
+
+        if (meetingNode < 0) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Pas de chemin
+        }
+
+        // Forward half up to the meeting node, then follow the backward tree to the end node
+        List<Node> path = forward.pathTo(snapshot, meetingNode);
+        for (int v = backward.parent(meetingNode); v != -1; v = backward.parent(v)) {
+            path.add(snapshot.getNode(v));
+        }
+        return new PathResult(path, bestCost, 0);
+    }
+}
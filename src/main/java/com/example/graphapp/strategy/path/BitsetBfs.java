@@ -0,0 +1,354 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.util.SearchMonitor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Parcours en largeur à direction optimisée (Beamer et al.) sur la vue CSR.
+ * L'ensemble des nœuds visités est un bitset long[]. Les niveaux étroits sont développés de haut
+ * en bas depuis une liste de nœuds ; dès que la frontière couvre une grande part des arcs restants,
+ * le parcours passe en mode ascendant : chaque nœud non visité cherche un parent dans la frontière,
+ * elle aussi stockée en bitset. Les niveaux larges sont répartis sur le ForkJoinPool commun.
+ * Une instance n'est pas thread-safe : {@link #acquire(GraphSnapshot)} fournit celle du thread courant,
+ * rattachée à la vue demandée sans réallouer tant que la capacité suffit. Chaque appel à
+ * {@link #run(int, int)} n'efface que les nœuds atteints par le parcours précédent, sauf si un niveau
+ * ascendant a eu lieu (il a déjà coûté V/64 mots) : le bitset est alors vidé en entier.
+ */
+public final class BitsetBfs {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final ThreadLocal<BitsetBfs> PER_THREAD = ThreadLocal.withInitial(() -> new BitsetBfs(true));
+
+    // Switch heuristics from the direction-optimizing BFS paper
+    private static final int ALPHA = 14; // top-down -> bottom-up when frontier edges > unexplored edges / ALPHA
+    private static final int BETA = 24;  // bottom-up -> top-down when frontier nodes < n / BETA
+    private static final int PARALLEL_THRESHOLD = 1 << 14; // Levels smaller than this stay sequential
+    private static final int TOP_DOWN_CHUNK = 4096;  // Frontier nodes per task
+    private static final int BOTTOM_UP_CHUNK = 256;  // Bitset words (16 384 nodes) per task
+
+    private final boolean parallel;
+    private GraphSnapshot snapshot; // null once released
+    private int n;
+    private int words;
+    private long[] visited = new long[0];
+    private int[] parents = new int[0]; // Valid for visited nodes only
+    private int[] depths = new int[0];  // Valid for visited nodes only
+    // Nodes listed by the last run in visiting order; each top-down level is the slice after the previous one
+    private int[] queue = new int[0];
+    private int queued;
+    private boolean fullClear; // A bottom-up level ran: visited bits are not all listed in queue
+    private long[] frontierBits;
+    private long[] nextBits;
+    private final long[] levelStats = new long[3]; // Reused by the sequential steps
+
+    public BitsetBfs(GraphSnapshot snapshot, boolean parallel) {
+        this(parallel);
+        bind(snapshot);
+    }
+
+    private BitsetBfs(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Moteur (parallèle) du thread courant, rattaché à 'snapshot'. Ne pas l'utiliser pour deux
+     * parcours imbriqués sur le même thread ; {@link #release()} une fois les résultats lus.
+     */
+    public static BitsetBfs acquire(GraphSnapshot snapshot) {
+        BitsetBfs engine = PER_THREAD.get();
+        engine.bind(snapshot);
+        return engine;
+    }
+
+    /**
+     * Oublie la vue du graphe (les tableaux restent pour le prochain parcours du thread).
+     */
+    public void release() {
+        snapshot = null;
+    }
+
+    private void bind(GraphSnapshot snapshot) {
+        if (snapshot == this.snapshot) return;
+        clear();
+        if ((n & 63) != 0) {
+            visited[words - 1] = 0L; // Padding of the previous layout
+        }
+        int count = snapshot.getNodeCount();
+        if (parents.length < count) {
+            int capacity = Math.max(count, parents.length + (parents.length >> 1));
+            visited = new long[(capacity + 63) >>> 6];
+            parents = new int[capacity];
+            depths = new int[capacity];
+            queue = new int[capacity];
+            frontierBits = null;
+            nextBits = null;
+        }
+        this.snapshot = snapshot;
+        this.n = count;
+        this.words = (count + 63) >>> 6;
+        if ((n & 63) != 0) {
+            visited[words - 1] = -1L << (n & 63); // Padding bits count as visited
+        }
+    }
+
+    // Erases the last run: O(nodes it listed), or O(V/64) after a bottom-up level
+    private void clear() {
+        if (fullClear) {
+            Arrays.fill(visited, 0, words, 0L);
+            if ((n & 63) != 0) {
+                visited[words - 1] = -1L << (n & 63);
+            }
+        } else {
+            for (int i = 0; i < queued; i++) {
+                int v = queue[i];
+                visited[v >>> 6] &= ~(1L << v);
+            }
+        }
+        queued = 0;
+        fullClear = false;
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Parcourt le graphe depuis 'source'. S'arrête à la fin du niveau où 'target' est atteint ;
+     * avec target < 0 le parcours est complet (accessibilité).
+     * @return true si 'target' a été atteint (toujours true pour un parcours complet).
+     */
+    public boolean run(int source, int target) {
+        return run(source, target, SearchMonitor.NONE);
+    }
+
+    /**
+     * Comme {@link #run(int, int)}, avec un point d'annulation et la progression (part des arcs
+     * déjà explorés) publiée à chaque niveau.
+     */
+    public boolean run(int source, int target, SearchMonitor monitor) {
+        clear();
+        int[] offsets = snapshot.getOffsets();
+        int[] inOffsets = snapshot.getIncomingOffsets();
+
+        visited[source >>> 6] |= 1L << source;
+        parents[source] = -1;
+        depths[source] = 0;
+        queue[0] = source;
+        queued = 1;
+        if (source == target) return true;
+
+        int head = 0; // Top-down frontier: queue[head, queued)
+        int frontierSize = 1;
+        long frontierEdges = offsets[source + 1] - offsets[source];
+        long unexploredEdges = snapshot.getEdgeCount() - (inOffsets[source + 1] - inOffsets[source]);
+        boolean bottomUp = false;
+
+        long totalEdges = Math.max(1, snapshot.getEdgeCount());
+        for (int level = 1; frontierSize > 0; level++) {
+            monitor.progress(1.0 - unexploredEdges / (double) totalEdges);
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                if (frontierBits == null || frontierBits.length < words) {
+                    frontierBits = new long[visited.length];
+                    nextBits = new long[visited.length];
+                } else {
+                    Arrays.fill(frontierBits, 0, words, 0L);
+                }
+                for (int i = head; i < queued; i++) {
+                    frontierBits[queue[i] >>> 6] |= 1L << queue[i];
+                }
+                bottomUp = true;
+                fullClear = true;
+            } else if (bottomUp && frontierSize < n / BETA) {
+                // Nodes found bottom-up are not in the queue yet: each node is listed at most once
+                head = queued;
+                frontierSize = toList(frontierBits, queue, queued);
+                queued += frontierSize;
+                bottomUp = false;
+            }
+
+            long[] stats;
+            if (bottomUp) {
+                stats = bottomUpStep(frontierBits, nextBits, level, frontierSize >= PARALLEL_THRESHOLD);
+                long[] swap = frontierBits;
+                frontierBits = nextBits;
+                nextBits = swap;
+            } else {
+                stats = topDownStep(head, queued, level, frontierEdges >= PARALLEL_THRESHOLD);
+                head = queued;
+                queued += (int) stats[0];
+            }
+            frontierSize = (int) stats[0];
+            frontierEdges = stats[1];
+            unexploredEdges -= stats[2];
+            if (target >= 0 && isVisited(target)) return true;
+        }
+        return target < 0 || isVisited(target);
+    }
+
+    // Expands queue[from, to); new nodes are appended from queue[to]. Returns {new nodes, their out-edges, their in-edges}
+    private long[] topDownStep(int from, int to, int level, boolean inParallel) {
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        int[] inOffsets = snapshot.getIncomingOffsets();
+        if (!(parallel && inParallel)) {
+            long outEdges = 0;
+            long inEdges = 0;
+            int size = 0;
+            for (int i = from; i < to; i++) {
+                int u = queue[i];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long bit = 1L << v;
+                    if ((visited[v >>> 6] & bit) != 0) continue;
+                    visited[v >>> 6] |= bit;
+                    parents[v] = u;
+                    depths[v] = level;
+                    queue[to + size++] = v;
+                    outEdges += offsets[v + 1] - offsets[v];
+                    inEdges += inOffsets[v + 1] - inOffsets[v];
+                }
+            }
+            levelStats[0] = size;
+            levelStats[1] = outEdges;
+            levelStats[2] = inEdges;
+            return levelStats;
+        }
+
+        // Nodes are claimed with a CAS on their visited word, so each one gets exactly one parent
+        int chunks = (to - from + TOP_DOWN_CHUNK - 1) / TOP_DOWN_CHUNK;
+        int[][] claimed = IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            int first = from + chunk * TOP_DOWN_CHUNK;
+            int last = Math.min(to, first + TOP_DOWN_CHUNK);
+            int[] local = new int[16];
+            int size = 0;
+            for (int i = first; i < last; i++) {
+                int u = queue[i];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (!claim(v)) continue;
+                    parents[v] = u;
+                    depths[v] = level;
+                    if (size == local.length) local = Arrays.copyOf(local, size * 2);
+                    local[size++] = v;
+                }
+            }
+            return Arrays.copyOf(local, size);
+        }).toArray(int[][]::new);
+
+        long outEdges = 0;
+        long inEdges = 0;
+        int size = 0;
+        for (int[] local : claimed) {
+            for (int v : local) {
+                queue[to + size++] = v;
+                outEdges += offsets[v + 1] - offsets[v];
+                inEdges += inOffsets[v + 1] - inOffsets[v];
+            }
+        }
+        return new long[] {size, outEdges, inEdges};
+    }
+
+    private boolean claim(int v) {
+        int word = v >>> 6;
+        long bit = 1L << v;
+        long current = (long) WORDS.getVolatile(visited, word);
+        while ((current & bit) == 0) {
+            long witness = (long) WORDS.compareAndExchange(visited, word, current, current | bit);
+            if (witness == current) return true;
+            current = witness;
+        }
+        return false;
+    }
+
+    // Every unvisited node looks for a parent in the frontier; tasks own disjoint word ranges
+    private long[] bottomUpStep(long[] frontierBits, long[] nextBits, int level, boolean inParallel) {
+        int chunks = (words + BOTTOM_UP_CHUNK - 1) / BOTTOM_UP_CHUNK;
+        if (!(parallel && inParallel) || chunks == 1) {
+            return bottomUpRange(frontierBits, nextBits, level, 0, words, levelStats);
+        }
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> bottomUpRange(frontierBits, nextBits, level,
+                        chunk * BOTTOM_UP_CHUNK, Math.min(words, (chunk + 1) * BOTTOM_UP_CHUNK), new long[3]))
+                .reduce(new long[3], (a, b) -> new long[] {a[0] + b[0], a[1] + b[1], a[2] + b[2]});
+    }
+
+    private long[] bottomUpRange(long[] frontierBits, long[] nextBits, int level, int fromWord, int toWord, long[] stats) {
+        int[] offsets = snapshot.getOffsets();
+        int[] inOffsets = snapshot.getIncomingOffsets();
+        int[] sources = snapshot.getIncomingSources();
+        long nodes = 0;
+        long outEdges = 0;
+        long inEdges = 0;
+        for (int w = fromWord; w < toWord; w++) {
+            long unvisited = ~visited[w];
+            long found = 0L;
+            while (unvisited != 0) {
+                int v = (w << 6) + Long.numberOfTrailingZeros(unvisited);
+                unvisited &= unvisited - 1;
+                for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                    int u = sources[e];
+                    if ((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                        parents[v] = u;
+                        depths[v] = level;
+                        found |= 1L << v;
+                        nodes++;
+                        outEdges += offsets[v + 1] - offsets[v];
+                        inEdges += inOffsets[v + 1] - inOffsets[v];
+                        break;
+                    }
+                }
+            }
+            visited[w] |= found;
+            nextBits[w] = found;
+        }
+        stats[0] = nodes;
+        stats[1] = outEdges;
+        stats[2] = inEdges;
+        return stats;
+    }
+
+    private int toList(long[] bits, int[] list, int start) {
+        int size = 0;
+        for (int w = 0; w < words; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                list[start + size++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return size;
+    }
+
+    public boolean isVisited(int node) {
+        return (visited[node >>> 6] & (1L << node)) != 0;
+    }
+
+    /**
+     * Prédécesseurs du dernier parcours (-1 pour la source), significatifs pour les nœuds atteints uniquement.
+     */
+    public int[] getParents() {
+        return parents;
+    }
+
+    /**
+     * Distance en nombre d'arcs depuis la source, -1 si non atteint.
+     */
+    public int getDepth(int node) {
+        return isVisited(node) ? depths[node] : -1;
+    }
+
+    /**
+     * Nombre de nœuds atteints par le dernier parcours, source comprise.
+     */
+    public int getVisitedCount() {
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(visited[w]);
+        }
+        return count - (words * 64 - n); // Minus the padding bits
+    }
+}
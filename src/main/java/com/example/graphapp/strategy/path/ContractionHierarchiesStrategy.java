@@ -0,0 +1,113 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Requêtes point à point sur une hiérarchie de contraction. Le prétraitement est effectué une
+ * seule fois par version du graphe, dans une tâche à part : annuler ou faire expirer la requête qui
+ * l'a déclenché n'interrompt que son attente, la hiérarchie est tout de même conservée pour les
+ * suivantes. Les requêtes suivantes n'explorent que les arcs montants.
+ * Les poids négatifs ne sont pas supportés : dans ce cas on délègue à Bellman-Ford.
+ */
+public class ContractionHierarchiesStrategy implements ShortestPathStrategy {
+    // Daemon threads: a preprocessing in progress does not keep the application alive
+    private static final ExecutorService PREPROCESSING = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "ch-preprocessing");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Interval between two cancellation checks of a query waiting for the preprocessing
+    private static final long WAIT_POLL_MS = 50;
+
+    private ContractionHierarchy hierarchy; // Guarded by this, like the pending build
+    private CompletableFuture<ContractionHierarchy> pendingBuild;
+    private GraphSnapshot pendingSnapshot;
+
+    private final ShortestPathStrategy negativeWeightFallback = new BellmanFordStrategy();
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode) {
+        return findShortestPath(graph, startNode, endNode, SearchMonitor.NONE);
+    }
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
+        GraphSnapshot snapshot = graph.snapshot();
+        int start = snapshot.indexOf(startNode);
+        int end = snapshot.indexOf(endNode);
+        if (start < 0 || end < 0) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0);
+        }
+        if (snapshot.hasNegativeWeights()) {
+            return negativeWeightFallback.findShortestPath(graph, startNode, endNode, monitor);
+        }
+        return hierarchyFor(snapshot, monitor).query(start, end);
+    }
+
+    // Only the wait honours the caller's monitor; the build itself runs to completion
+    private ContractionHierarchy hierarchyFor(GraphSnapshot snapshot, SearchMonitor monitor) {
+        CompletableFuture<ContractionHierarchy> build = buildFor(snapshot, monitor);
+        while (true) {
+            monitor.checkpoint();
+            try {
+                return build.get(WAIT_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Still preprocessing: check the caller's monitor again
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for the contraction hierarchy");
+            } catch (ExecutionException e) {
+                synchronized (this) {
+                    if (pendingBuild == build) pendingBuild = null; // The next query retries
+                }
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+            }
+        }
+    }
+
+    private synchronized CompletableFuture<ContractionHierarchy> buildFor(GraphSnapshot snapshot, SearchMonitor monitor) {
+        if (hierarchy != null && hierarchy.getSnapshot() == snapshot) {
+            return CompletableFuture.completedFuture(hierarchy);
+        }
+        if (pendingBuild == null || pendingSnapshot != snapshot) {
+            // Progress goes to the query that triggered the build, as long as it is waiting
+            SearchMonitor buildMonitor = new SearchMonitor(fraction -> {
+                if (!monitor.isCancelled()) {
+                    try {
+                        monitor.progress(fraction);
+                    } catch (CancellationException ignored) {
+                        // Cancelled meanwhile: the build goes on
+                    }
+                }
+            });
+            CompletableFuture<ContractionHierarchy> build =
+                    CompletableFuture.supplyAsync(() -> ContractionHierarchy.build(snapshot, buildMonitor), PREPROCESSING);
+            pendingBuild = build;
+            pendingSnapshot = snapshot;
+            // Registered after pendingBuild is set: a build already finished runs this inline
+            build.thenAccept(built -> {
+                synchronized (this) {
+                    if (pendingBuild == build) {
+                        hierarchy = built;
+                        pendingBuild = null;
+                    }
+                }
+            });
+            return build; // pendingBuild is already null if the build completed inline
+        }
+        return pendingBuild;
+    }
+}
@@ -0,0 +1,572 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.IndexedDaryHeap;
+import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+import com.example.graphapp.util.SearchWorkspace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hiérarchie de contraction (Contraction Hierarchies) construite à partir d'une vue CSR.
+ * Prétraitement : les nœuds sont contractés un à un dans l'ordre de la différence d'arcs
+ * (mise à jour paresseuse), en ajoutant des raccourcis lorsqu'aucun chemin témoin n'existe.
+ * Lorsque le graphe résiduel devient trop dense, les nœuds restants forment un cœur non contracté
+ * dont tous les arcs sont conservés dans les deux sens de recherche.
+ * Requête : Dijkstra bidirectionnel restreint aux arcs montants, puis dépliage des raccourcis.
+ * Suppose des poids non négatifs.
+ */
+public final class ContractionHierarchy {
+    // Witness searches are cut off after this many settled nodes (a cheaper limit when only estimating)
+    private static final int WITNESS_SETTLE_LIMIT = 200;
+    private static final int SIMULATION_SETTLE_LIMIT = 10;
+    // Once the cheapest remaining node has this many edges, the rest is kept as an uncontracted core
+    private static final int CORE_DEGREE = 32;
+
+    private final GraphSnapshot snapshot;
+    private final int[] rank;
+    private final int shortcutCount;
+
+    // Upward forward graph: v -> w with rank[w] > rank[v] (any direction between core nodes)
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final int[] upMiddles; // contracted middle node of a shortcut, -1 for an original edge
+
+    // Upward backward graph, stored at v: w -> v with rank[w] > rank[v] (idem)
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final double[] downWeights;
+    private final int[] downMiddles;
+
+    private ContractionHierarchy(GraphSnapshot snapshot, int[] rank, int shortcutCount,
+                                 int[] upOffsets, int[] upTargets, double[] upWeights, int[] upMiddles,
+                                 int[] downOffsets, int[] downSources, double[] downWeights, int[] downMiddles) {
+        this.snapshot = snapshot;
+        this.rank = rank;
+        this.shortcutCount = shortcutCount;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downSources = downSources;
+        this.downWeights = downWeights;
+        this.downMiddles = downMiddles;
+    }
+
+    public static ContractionHierarchy build(GraphSnapshot snapshot) {
+        return build(snapshot, SearchMonitor.NONE);
+    }
+
+    /**
+     * Prétraitement annulable : le moniteur est consulté pendant la contraction.
+     */
+    public static ContractionHierarchy build(GraphSnapshot snapshot, SearchMonitor monitor) {
+        return new Builder(snapshot).build(monitor);
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    /**
+     * Nœuds par importance décroissante : le dernier contracté en premier.
+     */
+    public int[] getImportanceOrder() {
+        int n = rank.length;
+        int[] order = new int[n];
+        for (int v = 0; v < n; v++) {
+            order[n - 1 - rank[v]] = v;
+        }
+        return order;
+    }
+
+    /**
+     * Plus court chemin entre deux indices de la vue, raccourcis dépliés en vrais nœuds.
+     */
+    public PathResult query(int source, int target) {
+        if (source == target) {
+            return new PathResult(new ArrayList<>(List.of(snapshot.getNode(source))), 0.0, 0);
+        }
+        int n = rank.length;
+        // Workspace parent = index into the up arrays (forward) or down arrays (backward) of the edge used to reach v
+        SearchWorkspace forward = SearchWorkspace.acquire(n, SearchWorkspace.FORWARD);
+        SearchWorkspace backward = SearchWorkspace.acquire(n, SearchWorkspace.BACKWARD);
+        IndexedDaryHeap forwardQueue = forward.getHeap();
+        IndexedDaryHeap backwardQueue = backward.getHeap();
+        forward.reach(source, 0.0, -1);
+        backward.reach(target, 0.0, -1);
+        forwardQueue.insert(source, 0.0);
+        backwardQueue.insert(target, 0.0);
+
+        double bestCost = Double.POSITIVE_INFINITY;
+        int meetingNode = -1;
+        while (true) {
+            boolean forwardActive = !forwardQueue.isEmpty() && forwardQueue.peekKey() < bestCost;
+            boolean backwardActive = !backwardQueue.isEmpty() && backwardQueue.peekKey() < bestCost;
+            if (!forwardActive && !backwardActive) break;
+
+            if (forwardActive && (!backwardActive || forwardQueue.peekKey() <= backwardQueue.peekKey())) {
+                int u = forwardQueue.poll();
+                double du = forward.distance(u);
+                if (du + backward.distance(u) < bestCost) {
+                    bestCost = du + backward.distance(u);
+                    meetingNode = u;
+                }
+                for (int e = upOffsets[u]; e < upOffsets[u + 1]; e++) {
+                    int v = upTargets[e];
+                    double candidate = du + upWeights[e];
+                    if (candidate < forward.distance(v)) {
+                        forward.reach(v, candidate, e);
+                        forwardQueue.insertOrDecrease(v, candidate);
+                    }
+                }
+            } else {
+                int u = backwardQueue.poll();
+                double du = backward.distance(u);
+                if (forward.distance(u) + du < bestCost) {
+                    bestCost = forward.distance(u) + du;
+                    meetingNode = u;
+                }
+                for (int e = downOffsets[u]; e < downOffsets[u + 1]; e++) {
+                    int v = downSources[e];
+                    double candidate = du + downWeights[e];
+                    if (candidate < backward.distance(v)) {
+                        backward.reach(v, candidate, e);
+                        backwardQueue.insertOrDecrease(v, candidate);
+                    }
+                }
+            }
+        }
+
+        if (meetingNode < 0) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0);
+        }
+
+        // Upward half: collect the edges from the meeting node back to the source
+        List<int[]> forwardHops = new ArrayList<>(); // {from, to, middle}
+        for (int v = meetingNode; forward.parent(v) != -1; ) {
+            int e = forward.parent(v);
+            int from = upSource(e);
+            forwardHops.add(new int[]{from, v, upMiddles[e]});
+            v = from;
+        }
+        List<Node> path = new ArrayList<>();
+        path.add(snapshot.getNode(source));
+        for (int i = forwardHops.size() - 1; i >= 0; i--) {
+            int[] hop = forwardHops.get(i);
+            unpack(hop[0], hop[1], hop[2], path);
+        }
+        // Downward half: edges v -> next stored in the down arrays of v
+        for (int v = meetingNode; backward.parent(v) != -1; ) {
+            int e = backward.parent(v);
+            int next = downOwner(e);
+            unpack(v, next, downMiddles[e], path);
+            v = next;
+        }
+        return new PathResult(path, bestCost, 0);
+    }
+
+    // Node owning up-edge slot e (binary search on offsets)
+    private int upSource(int e) {
+        return owner(upOffsets, e);
+    }
+
+    private int downOwner(int e) {
+        return owner(downOffsets, e);
+    }
+
+    private static int owner(int[] offsets, int e) {
+        int low = 0;
+        int high = offsets.length - 2;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= e) low = mid;
+            else high = mid - 1;
+        }
+        return low;
+    }
+
+    // Appends the nodes after 'from' up to 'to' for edge from -> to, expanding shortcuts iteratively
+    private void unpack(int from, int to, int middle, List<Node> path) {
+        int[] stack = new int[16 * 3];
+        int size = 0;
+        stack[size++] = from;
+        stack[size++] = to;
+        stack[size++] = middle;
+        while (size > 0) {
+            int m = stack[--size];
+            int b = stack[--size];
+            int a = stack[--size];
+            if (m < 0) {
+                path.add(snapshot.getNode(b));
+                continue;
+            }
+            if (size + 6 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            // Push (m, b) first so that (a, m) is expanded first
+            stack[size++] = m;
+            stack[size++] = b;
+            stack[size++] = middleOf(m, b);
+            stack[size++] = a;
+            stack[size++] = m;
+            stack[size++] = middleOf(a, m);
+        }
+    }
+
+    // Middle node of edge a -> b, recorded at whichever endpoint was contracted first
+    private int middleOf(int a, int b) {
+        if (rank[a] < rank[b]) {
+            for (int e = upOffsets[a]; e < upOffsets[a + 1]; e++) {
+                if (upTargets[e] == b) return upMiddles[e];
+            }
+        } else {
+            for (int e = downOffsets[b]; e < downOffsets[b + 1]; e++) {
+                if (downSources[e] == a) return downMiddles[e];
+            }
+        }
+        throw new IllegalStateException("Missing hierarchy edge " + a + " -> " + b);
+    }
+
+    /**
+     * Graphe résiduel modifiable utilisé pendant la contraction.
+     */
+    private static final class Builder {
+        private final GraphSnapshot snapshot;
+        private final int n;
+
+        private final int[][] outTo;
+        private final double[][] outWeight;
+        private final int[][] outMiddle;
+        private final int[] outSize;
+        private final int[][] inFrom;
+        private final double[][] inWeight;
+        private final int[][] inMiddle;
+        private final int[] inSize;
+
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+
+        // Witness search workspace, reset through the touched list
+        private final double[] witnessDistances;
+        private final int[] touched;
+        private int touchedCount;
+        private final IndexedDaryHeap witnessQueue;
+
+        // Recorded upward edges, per node, at contraction time
+        private final int[][] upTo;
+        private final double[][] upWeight;
+        private final int[][] upMiddle;
+        private final int[][] downFrom;
+        private final double[][] downWeight;
+        private final int[][] downMiddle;
+
+        private int shortcutCount;
+
+        Builder(GraphSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.n = snapshot.getNodeCount();
+            outTo = new int[n][];
+            outWeight = new double[n][];
+            outMiddle = new int[n][];
+            outSize = new int[n];
+            inFrom = new int[n][];
+            inWeight = new double[n][];
+            inMiddle = new int[n][];
+            inSize = new int[n];
+            contracted = new boolean[n];
+            contractedNeighbors = new int[n];
+            witnessDistances = new double[n];
+            Arrays.fill(witnessDistances, Double.POSITIVE_INFINITY);
+            touched = new int[n];
+            witnessQueue = new IndexedDaryHeap(n);
+            upTo = new int[n][];
+            upWeight = new double[n][];
+            upMiddle = new int[n][];
+            downFrom = new int[n][];
+            downWeight = new double[n][];
+            downMiddle = new int[n][];
+
+            int[] offsets = snapshot.getOffsets();
+            int[] incomingOffsets = snapshot.getIncomingOffsets();
+            for (int v = 0; v < n; v++) {
+                int outDegree = Math.max(2, offsets[v + 1] - offsets[v]);
+                int inDegree = Math.max(2, incomingOffsets[v + 1] - incomingOffsets[v]);
+                outTo[v] = new int[outDegree];
+                outWeight[v] = new double[outDegree];
+                outMiddle[v] = new int[outDegree];
+                inFrom[v] = new int[inDegree];
+                inWeight[v] = new double[inDegree];
+                inMiddle[v] = new int[inDegree];
+            }
+            int[] targets = snapshot.getTargets();
+            double[] weights = snapshot.getWeights();
+            for (int u = 0; u < n; u++) {
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    if (targets[e] != u) { // self-loops never lie on a shortest path
+                        addOrImprove(u, targets[e], weights[e], -1);
+                    }
+                }
+            }
+        }
+
+        ContractionHierarchy build(SearchMonitor monitor) {
+            int[] rank = new int[n];
+            IndexedDaryHeap order = new IndexedDaryHeap(n);
+            for (int v = 0; v < n; v++) {
+                order.insert(v, priority(v));
+            }
+            int nextRank = 0;
+            int iterations = 0;
+            while (!order.isEmpty()) {
+                if ((++iterations & 255) == 0) {
+                    monitor.progress(nextRank / (double) n);
+                }
+                int v = order.peek();
+                if (inSize[v] + outSize[v] >= CORE_DEGREE) {
+                    break;
+                }
+                order.poll();
+                // Lazy update: re-evaluate, and postpone if no longer the cheapest node
+                double current = priority(v);
+                if (!order.isEmpty() && current > order.peekKey()) {
+                    order.insert(v, current);
+                    continue;
+                }
+                contract(v, order);
+                rank[v] = nextRank++;
+            }
+            // Core: every remaining edge is kept as both an upward and a downward edge
+            while (!order.isEmpty()) {
+                int v = order.poll();
+                recordRemainingEdges(v);
+                rank[v] = nextRank++;
+            }
+            return assemble(rank);
+        }
+
+        // Edge difference (shortcuts added minus edges removed) plus contracted-neighbour count
+        private double priority(int v) {
+            return 2.0 * (simulateShortcuts(v) - (inSize[v] + outSize[v])) + contractedNeighbors[v];
+        }
+
+        private void recordRemainingEdges(int v) {
+            upTo[v] = Arrays.copyOf(outTo[v], outSize[v]);
+            upWeight[v] = Arrays.copyOf(outWeight[v], outSize[v]);
+            upMiddle[v] = Arrays.copyOf(outMiddle[v], outSize[v]);
+            downFrom[v] = Arrays.copyOf(inFrom[v], inSize[v]);
+            downWeight[v] = Arrays.copyOf(inWeight[v], inSize[v]);
+            downMiddle[v] = Arrays.copyOf(inMiddle[v], inSize[v]);
+        }
+
+        private int simulateShortcuts(int v) {
+            return processNode(v, true);
+        }
+
+        private boolean hasOutgoing(int v, int x) {
+            for (int i = 0; i < outSize[v]; i++) {
+                if (outTo[v][i] == x) return true;
+            }
+            return false;
+        }
+
+        private void contract(int v, IndexedDaryHeap order) {
+            processNode(v, false);
+
+            // Record the remaining (upward) edges of v before removing it from the residual graph
+            recordRemainingEdges(v);
+
+            contracted[v] = true;
+            for (int i = 0; i < outSize[v]; i++) {
+                int x = outTo[v][i];
+                removeIncoming(x, v);
+                contractedNeighbors[x]++;
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                int u = inFrom[v][i];
+                removeOutgoing(u, v);
+                contractedNeighbors[u]++;
+            }
+            // Neighbours' edge differences changed: refresh their keys (once per neighbour)
+            for (int i = 0; i < outSize[v]; i++) {
+                int x = outTo[v][i];
+                if (order.contains(x)) order.changeKey(x, priority(x));
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                int u = inFrom[v][i];
+                if (order.contains(u) && !hasOutgoing(v, u)) order.changeKey(u, priority(u));
+            }
+            outSize[v] = 0;
+            inSize[v] = 0;
+        }
+
+        // For each in-neighbour u of v, find out-neighbours x not reachable by a witness path
+        // cheaper than u -> v -> x. Adds the shortcuts unless 'simulate' is set.
+        private int processNode(int v, boolean simulate) {
+            int shortcuts = 0;
+            for (int i = 0; i < inSize[v]; i++) {
+                int u = inFrom[v][i];
+                double toV = inWeight[v][i];
+                double maxCost = Double.NEGATIVE_INFINITY;
+                for (int j = 0; j < outSize[v]; j++) {
+                    if (outTo[v][j] != u) {
+                        maxCost = Math.max(maxCost, toV + outWeight[v][j]);
+                    }
+                }
+                if (maxCost == Double.NEGATIVE_INFINITY) continue;
+
+                witnessSearch(u, v, maxCost, simulate ? SIMULATION_SETTLE_LIMIT : WITNESS_SETTLE_LIMIT);
+                for (int j = 0; j < outSize[v]; j++) {
+                    int x = outTo[v][j];
+                    if (x == u) continue;
+                    double viaV = toV + outWeight[v][j];
+                    if (witnessDistances[x] > viaV) {
+                        shortcuts++;
+                        if (!simulate) {
+                            addOrImprove(u, x, viaV, v);
+                            shortcutCount++;
+                        }
+                    }
+                }
+                resetWitness();
+            }
+            return shortcuts;
+        }
+
+        private void witnessSearch(int source, int avoided, double maxCost, int settleLimit) {
+            witnessDistances[source] = 0.0;
+            touched[touchedCount++] = source;
+            witnessQueue.insert(source, 0.0);
+            int settled = 0;
+            while (!witnessQueue.isEmpty() && settled < settleLimit) {
+                if (witnessQueue.peekKey() > maxCost) break;
+                int u = witnessQueue.poll();
+                settled++;
+                for (int i = 0; i < outSize[u]; i++) {
+                    int x = outTo[u][i];
+                    if (x == avoided) continue;
+                    double candidate = witnessDistances[u] + outWeight[u][i];
+                    if (candidate < witnessDistances[x]) {
+                        if (witnessDistances[x] == Double.POSITIVE_INFINITY) {
+                            touched[touchedCount++] = x;
+                        }
+                        witnessDistances[x] = candidate;
+                        witnessQueue.insertOrDecrease(x, candidate);
+                    }
+                }
+            }
+        }
+
+        private void resetWitness() {
+            for (int i = 0; i < touchedCount; i++) {
+                witnessDistances[touched[i]] = Double.POSITIVE_INFINITY;
+            }
+            touchedCount = 0;
+            witnessQueue.clear();
+        }
+
+        private void addOrImprove(int u, int x, double weight, int middle) {
+            for (int i = 0; i < outSize[u]; i++) {
+                if (outTo[u][i] == x) {
+                    if (weight < outWeight[u][i]) {
+                        outWeight[u][i] = weight;
+                        outMiddle[u][i] = middle;
+                        for (int j = 0; j < inSize[x]; j++) {
+                            if (inFrom[x][j] == u) {
+                                inWeight[x][j] = weight;
+                                inMiddle[x][j] = middle;
+                                break;
+                            }
+                        }
+                    }
+                    return;
+                }
+            }
+            if (outSize[u] == outTo[u].length) {
+                int capacity = outTo[u].length * 2;
+                outTo[u] = Arrays.copyOf(outTo[u], capacity);
+                outWeight[u] = Arrays.copyOf(outWeight[u], capacity);
+                outMiddle[u] = Arrays.copyOf(outMiddle[u], capacity);
+            }
+            outTo[u][outSize[u]] = x;
+            outWeight[u][outSize[u]] = weight;
+            outMiddle[u][outSize[u]] = middle;
+            outSize[u]++;
+
+            if (inSize[x] == inFrom[x].length) {
+                int capacity = inFrom[x].length * 2;
+                inFrom[x] = Arrays.copyOf(inFrom[x], capacity);
+                inWeight[x] = Arrays.copyOf(inWeight[x], capacity);
+                inMiddle[x] = Arrays.copyOf(inMiddle[x], capacity);
+            }
+            inFrom[x][inSize[x]] = u;
+            inWeight[x][inSize[x]] = weight;
+            inMiddle[x][inSize[x]] = middle;
+            inSize[x]++;
+        }
+
+        private void removeOutgoing(int u, int x) {
+            for (int i = 0; i < outSize[u]; i++) {
+                if (outTo[u][i] == x) {
+                    int last = --outSize[u];
+                    outTo[u][i] = outTo[u][last];
+                    outWeight[u][i] = outWeight[u][last];
+                    outMiddle[u][i] = outMiddle[u][last];
+                    return;
+                }
+            }
+        }
+
+        private void removeIncoming(int x, int u) {
+            for (int i = 0; i < inSize[x]; i++) {
+                if (inFrom[x][i] == u) {
+                    int last = --inSize[x];
+                    inFrom[x][i] = inFrom[x][last];
+                    inWeight[x][i] = inWeight[x][last];
+                    inMiddle[x][i] = inMiddle[x][last];
+                    return;
+                }
+            }
+        }
+
+        private ContractionHierarchy assemble(int[] rank) {
+            int[] upOffsets = new int[n + 1];
+            int[] downOffsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                upOffsets[v + 1] = upOffsets[v] + upTo[v].length;
+                downOffsets[v + 1] = downOffsets[v] + downFrom[v].length;
+            }
+            int[] upTargets = new int[upOffsets[n]];
+            double[] upWeights = new double[upOffsets[n]];
+            int[] upMiddles = new int[upOffsets[n]];
+            int[] downSources = new int[downOffsets[n]];
+            double[] downWeights = new double[downOffsets[n]];
+            int[] downMiddles = new int[downOffsets[n]];
+            for (int v = 0; v < n; v++) {
+                System.arraycopy(upTo[v], 0, upTargets, upOffsets[v], upTo[v].length);
+                System.arraycopy(upWeight[v], 0, upWeights, upOffsets[v], upTo[v].length);
+                System.arraycopy(upMiddle[v], 0, upMiddles, upOffsets[v], upTo[v].length);
+                System.arraycopy(downFrom[v], 0, downSources, downOffsets[v], downFrom[v].length);
+                System.arraycopy(downWeight[v], 0, downWeights, downOffsets[v], downFrom[v].length);
+                System.arraycopy(downMiddle[v], 0, downMiddles, downOffsets[v], downFrom[v].length);
+            }
+            return new ContractionHierarchy(snapshot, rank, shortcutCount,
+                    upOffsets, upTargets, upWeights, upMiddles,
+                    downOffsets, downSources, downWeights, downMiddles);
+        }
+    }
+}
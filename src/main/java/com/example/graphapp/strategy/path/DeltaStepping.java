@@ -0,0 +1,326 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.util.SearchMonitor;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Plus courts chemins depuis une source par delta-stepping (Meyer et Sanders).
+ * Les distances provisoires sont rangées dans des seaux de largeur Δ ; les nœuds d'un même seau sont
+ * traités ensemble, en parallèle sur le ForkJoinPool commun : d'abord les arcs légers (poids <= Δ),
+ * qui peuvent remettre des nœuds dans le seau courant, puis une seule fois les arcs lourds des nœuds
+ * fixés. Les distances sont des double stockés dans un AtomicLongArray et abaissées par CAS, sans verrou.
+ * Les seaux sont circulaires : toutes les distances provisoires tiennent dans (max poids / Δ) + 2 seaux.
+ * Après un seau, toutes les distances inférieures à sa borne haute sont définitives.
+ * Suppose des poids non négatifs. Une instance n'est pas thread-safe ; la vue CSR réordonnée
+ * (arcs légers d'abord) est construite une fois par instance.
+ */
+public final class DeltaStepping {
+    // Frontiers smaller than this are relaxed on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1024;
+    private static final int CHUNK = 512;
+    // Upper bound on the number of circular buckets; Δ is widened if the weight range needs more
+    private static final int MAX_BUCKETS = 1 << 16;
+
+    private final GraphSnapshot snapshot;
+    private final int n;
+    private final double delta;
+    private final int bucketCount;
+    // Out-edges reordered per node: light edges in [offsets[u], lightEnd[u]), heavy ones up to offsets[u + 1]
+    private final int[] offsets;
+    private final int[] lightEnd;
+    private final int[] targets;
+    private final double[] weights;
+
+    private final AtomicLongArray distances;
+    private final int[] parents;
+    private final int[] marks;        // Per-merge deduplication stamps
+    private int mark;
+    private final int[] settledMarks; // settledMarks[v] == phase: v already listed for the heavy phase
+    private int phase;
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+
+    /**
+     * Δ choisi automatiquement : poids moyen des arcs (élargi si l'écart des poids l'exige).
+     */
+    public DeltaStepping(GraphSnapshot snapshot) {
+        this(snapshot, defaultDelta(snapshot));
+    }
+
+    public DeltaStepping(GraphSnapshot snapshot, double delta) {
+        if (snapshot.hasNegativeWeights()) {
+            throw new IllegalArgumentException("Delta-stepping requires non-negative edge weights");
+        }
+        this.snapshot = snapshot;
+        this.n = snapshot.getNodeCount();
+        double maxWeight = 0.0;
+        for (double w : snapshot.getWeights()) {
+            maxWeight = Math.max(maxWeight, w);
+        }
+        double width = delta > 0 ? delta : 1.0;
+        if (maxWeight / width + 2 > MAX_BUCKETS) {
+            width = maxWeight / (MAX_BUCKETS - 2);
+        }
+        this.delta = width;
+        this.bucketCount = (int) (maxWeight / width) + 2;
+
+        // Light edges first, so that each phase scans one contiguous range per node
+        this.offsets = snapshot.getOffsets();
+        int[] sourceTargets = snapshot.getTargets();
+        double[] sourceWeights = snapshot.getWeights();
+        this.targets = new int[sourceTargets.length];
+        this.weights = new double[sourceWeights.length];
+        this.lightEnd = new int[n];
+        IntStream.range(0, n).parallel().forEach(u -> {
+            int light = offsets[u];
+            int heavy = offsets[u + 1];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int slot = sourceWeights[e] <= this.delta ? light++ : --heavy;
+                targets[slot] = sourceTargets[e];
+                weights[slot] = sourceWeights[e];
+            }
+            lightEnd[u] = light;
+        });
+
+        this.distances = new AtomicLongArray(n);
+        this.parents = new int[n];
+        this.marks = new int[n];
+        this.settledMarks = new int[n];
+        this.buckets = new int[bucketCount][];
+        this.bucketSizes = new int[bucketCount];
+        for (int b = 0; b < bucketCount; b++) {
+            buckets[b] = new int[16];
+        }
+    }
+
+    private static double defaultDelta(GraphSnapshot snapshot) {
+        double sum = 0.0;
+        for (double w : snapshot.getWeights()) {
+            sum += w;
+        }
+        int m = snapshot.getEdgeCount();
+        return m > 0 && sum > 0 ? sum / m : 1.0;
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public double getDelta() {
+        return delta;
+    }
+
+    /**
+     * Arbre complet depuis 'source'. Voir {@link #run(int, int, SearchMonitor)}.
+     */
+    public void run(int source) {
+        run(source, -1, SearchMonitor.NONE);
+    }
+
+    /**
+     * Calcule les distances depuis 'source' ; avec target >= 0, s'arrête dès que la distance de
+     * 'target' est définitive. Les prédécesseurs sont ensuite reconstruits sur les arcs « serrés »
+     * (d(u) + w = d(v)) des nœuds fixés. Le moniteur est consulté à chaque seau.
+     */
+    public void run(int source, int target, SearchMonitor monitor) {
+        long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        for (int v = 0; v < n; v++) {
+            distances.lazySet(v, infinity);
+        }
+        Arrays.fill(bucketSizes, 0);
+        distances.set(source, Double.doubleToRawLongBits(0.0));
+
+        int[] frontier = {source};
+        int frontierSize = 1;
+        int[] settled = new int[16]; // Nodes removed from the current bucket, for the heavy phase
+        long current = 0; // Absolute index of the bucket being processed
+        double limit = Double.POSITIVE_INFINITY;
+
+        while (true) {
+            monitor.checkpoint();
+            int settledSize = 0;
+            phase++;
+            // Light phase, repeated while it refills the current bucket
+            while (frontierSize > 0) {
+                for (int i = 0; i < frontierSize; i++) {
+                    int v = frontier[i];
+                    if (settledMarks[v] == phase) continue;
+                    settledMarks[v] = phase;
+                    if (settledSize == settled.length) settled = Arrays.copyOf(settled, settledSize * 2);
+                    settled[settledSize++] = v;
+                }
+                int[][] improved = relax(frontier, frontierSize, true);
+                frontier = new int[16];
+                frontierSize = 0;
+                int token = ++mark;
+                for (int[] chunk : improved) {
+                    for (int i = 1; i <= chunk[0]; i++) {
+                        int v = chunk[i];
+                        if (marks[v] == token) continue;
+                        marks[v] = token;
+                        long bucket = bucketOf(v);
+                        if (bucket == current) {
+                            if (frontierSize == frontier.length) frontier = Arrays.copyOf(frontier, frontierSize * 2);
+                            frontier[frontierSize++] = v;
+                        } else {
+                            addToBucket(bucket, v);
+                        }
+                    }
+                }
+            }
+
+            // Heavy phase: heavy edges never land in the current bucket
+            int[][] improved = relax(settled, settledSize, false);
+            int token = ++mark;
+            for (int[] chunk : improved) {
+                for (int i = 1; i <= chunk[0]; i++) {
+                    int v = chunk[i];
+                    if (marks[v] == token) continue;
+                    marks[v] = token;
+                    addToBucket(bucketOf(v), v);
+                }
+            }
+
+            // Every distance below the end of this bucket is now final
+            if (target >= 0 && distance(target) < (current + 1) * delta) {
+                limit = distance(target);
+                break;
+            }
+
+            // Next non-empty bucket; stale entries (node moved to a lower bucket) are dropped
+            frontierSize = 0;
+            int scanned = 0;
+            while (frontierSize == 0 && scanned < bucketCount) {
+                current++;
+                scanned++;
+                int slot = (int) (current % bucketCount);
+                int size = bucketSizes[slot];
+                if (size == 0) continue;
+                int[] entries = buckets[slot];
+                frontier = new int[size];
+                token = ++mark;
+                for (int i = 0; i < size; i++) {
+                    int v = entries[i];
+                    if (marks[v] != token && bucketOf(v) == current) {
+                        marks[v] = token;
+                        frontier[frontierSize++] = v;
+                    }
+                }
+                bucketSizes[slot] = 0;
+            }
+            if (frontierSize == 0) break; // All buckets empty
+        }
+        buildParents(source, limit);
+    }
+
+    private long bucketOf(int v) {
+        return (long) (distance(v) / delta);
+    }
+
+    private void addToBucket(long bucket, int v) {
+        int slot = (int) (bucket % bucketCount);
+        int size = bucketSizes[slot];
+        if (size == buckets[slot].length) buckets[slot] = Arrays.copyOf(buckets[slot], size * 2);
+        buckets[slot][size] = v;
+        bucketSizes[slot] = size + 1;
+    }
+
+    // Relaxes the light (or heavy) edges of the given nodes; returns per-chunk lists {count, nodes...}
+    // of nodes whose distance was lowered, possibly with duplicates
+    private int[][] relax(int[] nodes, int size, boolean light) {
+        int chunks = (size + CHUNK - 1) / CHUNK;
+        if (size < PARALLEL_THRESHOLD) {
+            return new int[][] {relaxRange(nodes, 0, size, light)};
+        }
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> relaxRange(nodes, c * CHUNK, Math.min(size, (c + 1) * CHUNK), light))
+                .toArray(int[][]::new);
+    }
+
+    private int[] relaxRange(int[] nodes, int from, int to, boolean light) {
+        int[] improved = new int[16];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int u = nodes[i];
+            double du = distance(u);
+            int start = light ? offsets[u] : lightEnd[u];
+            int end = light ? lightEnd[u] : offsets[u + 1];
+            for (int e = start; e < end; e++) {
+                int v = targets[e];
+                if (lowerTo(v, du + weights[e])) {
+                    if (count + 1 == improved.length) improved = Arrays.copyOf(improved, improved.length * 2);
+                    improved[++count] = v;
+                }
+            }
+        }
+        improved[0] = count;
+        return improved;
+    }
+
+    // Lock-free minimum: retries the CAS while the candidate is still better than the stored value
+    private boolean lowerTo(int v, double candidate) {
+        long currentBits = distances.get(v);
+        while (candidate < Double.longBitsToDouble(currentBits)) {
+            if (distances.compareAndSet(v, currentBits, Double.doubleToRawLongBits(candidate))) {
+                return true;
+            }
+            currentBits = distances.get(v);
+        }
+        return false;
+    }
+
+    // Breadth-first walk of the tight edges from the source, over nodes with a final distance <= limit
+    private void buildParents(int source, double limit) {
+        Arrays.fill(parents, -1);
+        int token = ++mark;
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        marks[source] = token;
+        while (head < tail) {
+            int u = queue[head++];
+            double du = distance(u);
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (marks[v] == token) continue;
+                double dv = distance(v);
+                if (dv <= limit && du + weights[e] == dv) {
+                    marks[v] = token;
+                    parents[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+    }
+
+    /**
+     * Distance calculée par le dernier appel (+infini si non atteint ; non définitive au-delà
+     * de la cible en cas d'arrêt anticipé).
+     */
+    public double distance(int node) {
+        return Double.longBitsToDouble(distances.get(node));
+    }
+
+    /**
+     * Copie des distances du dernier parcours complet.
+     */
+    public double[] getDistances() {
+        double[] copy = new double[n];
+        for (int v = 0; v < n; v++) {
+            copy[v] = distance(v);
+        }
+        return copy;
+    }
+
+    /**
+     * Prédécesseurs dans l'arbre des plus courts chemins (-1 pour la source et les nœuds non atteints).
+     */
+    public int[] getParents() {
+        return parents;
+    }
+}
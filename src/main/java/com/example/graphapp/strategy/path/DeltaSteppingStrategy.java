@@ -0,0 +1,98 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+import com.example.graphapp.util.TreeResult;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Delta-stepping parallèle (voir {@link DeltaStepping}), arrêté dès que la distance de l'arrivée est
+ * définitive. Chaque recherche en cours a son propre moteur (vue réordonnée, tableaux de travail) :
+ * les appelants concurrents, par exemple un lot d'arbres calculés depuis plusieurs dépôts, ne s'attendent
+ * pas. Les moteurs libres de la dernière vue du graphe sont gardés pour les recherches suivantes.
+ * Les poids négatifs ne sont pas supportés : dans ce cas on délègue à Bellman-Ford.
+ */
+public class DeltaSteppingStrategy implements ShortestPathStrategy {
+    // Each idle engine holds an O(V + E) copy of the graph; more callers than cores gain nothing
+    private static final int MAX_IDLE_ENGINES = Runtime.getRuntime().availableProcessors();
+
+    private final Deque<DeltaStepping> idleEngines = new ConcurrentLinkedDeque<>();
+    private final ShortestPathStrategy negativeWeightFallback = new BellmanFordStrategy();
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode) {
+        return findShortestPath(graph, startNode, endNode, SearchMonitor.NONE);
+    }
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
+        GraphSnapshot snapshot = graph.snapshot();
+        int start = snapshot.indexOf(startNode);
+        int end = snapshot.indexOf(endNode);
+        if (start < 0 || end < 0) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0);
+        }
+        if (snapshot.hasNegativeWeights()) {
+            return negativeWeightFallback.findShortestPath(graph, startNode, endNode, monitor);
+        }
+
+        DeltaStepping engine = acquire(snapshot);
+        try {
+            engine.run(start, end, monitor);
+            double cost = engine.distance(end);
+            if (cost == Double.POSITIVE_INFINITY) {
+                return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Pas de chemin
+            }
+            return new PathResult(snapshot.buildPath(engine.getParents(), end), cost, 0);
+        } finally {
+            release(engine);
+        }
+    }
+
+    /**
+     * Arbre complet des plus courts chemins depuis 'source', avec la vue du graphe qui indexe
+     * ses distances et ses prédécesseurs.
+     * @throws IllegalArgumentException si 'source' n'est pas dans le graphe ou si le graphe contient des poids négatifs.
+     */
+    public TreeResult shortestPathTree(Graph graph, Node source) {
+        long startTime = System.nanoTime();
+        GraphSnapshot snapshot = graph.snapshot();
+        int start = snapshot.indexOf(source);
+        if (start < 0) {
+            throw new IllegalArgumentException("Source node not in graph: " + source);
+        }
+        if (snapshot.hasNegativeWeights()) {
+            throw new IllegalArgumentException("Delta-stepping requires non-negative edge weights");
+        }
+        DeltaStepping engine = acquire(snapshot);
+        try {
+            engine.run(start);
+            int[] parents = engine.getParents();
+            return new TreeResult(snapshot, start, engine.getDistances(), Arrays.copyOf(parents, parents.length),
+                    (System.nanoTime() - startTime) / 1_000_000);
+        } finally {
+            release(engine);
+        }
+    }
+
+    // An idle engine of this snapshot, or a new one; engines of other versions are dropped
+    private DeltaStepping acquire(GraphSnapshot snapshot) {
+        DeltaStepping engine;
+        while ((engine = idleEngines.pollFirst()) != null) {
+            if (engine.getSnapshot() == snapshot) return engine;
+        }
+        return new DeltaStepping(snapshot);
+    }
+
+    private void release(DeltaStepping engine) {
+        if (idleEngines.size() < MAX_IDLE_ENGINES) {
+            idleEngines.offerFirst(engine);
+        }
+    }
+}
@@ -1,61 +1,95 @@
 package com.example.graphapp.strategy.path;
 
 import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
 import com.example.graphapp.model.Node;
+import com.example.graphapp.util.IndexedDaryHeap;
 import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+import com.example.graphapp.util.SearchWorkspace;
 import java.util.*;
 
 public class DijkstraStrategy implements ShortestPathStrategy {
     @Override
     public PathResult findShortestPath(Graph graph, Node startNode, Node endNode) {
-        // Implémentation de Dijkstra (squelette)
-        // Vérifier que startNode et endNode existent dans le graph
-        if (!graph.getNodes().contains(startNode) || !graph.getNodes().contains(endNode)) {
+        return findShortestPath(graph, startNode, endNode, SearchMonitor.NONE);
+    }
+
+    @Override
+    public PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
+        // Travaille sur la vue CSR du graphe (indices denses, tableaux primitifs)
+        GraphSnapshot snapshot = graph.snapshot();
+        int start = snapshot.indexOf(startNode);
+        int end = snapshot.indexOf(endNode);
+        if (start < 0 || end < 0) {
             return new PathResult(null, Double.POSITIVE_INFINITY, 0);
         }
 
-        Map<Node, Double> distances = new HashMap<>();
-        Map<Node, Node> predecessors = new HashMap<>();
-        PriorityQueue<Node> priorityQueue = new PriorityQueue<>(Comparator.comparing(distances::get));
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
 
-        for (Node node : graph.getNodes()) {
-            distances.put(node, Double.POSITIVE_INFINITY);
-        }
-        distances.put(startNode, 0.0);
-        priorityQueue.add(startNode);
+        // Tableaux réutilisés par thread et remis à zéro en O(1) : les requêtes parallèles ne partagent aucun état
+        SearchWorkspace workspace = SearchWorkspace.acquire(n);
+        IndexedDaryHeap priorityQueue = workspace.getHeap();
+
+        workspace.reach(start, 0.0, -1);
+        priorityQueue.insert(start, 0.0);
 
+        int settled = 0;
         while (!priorityQueue.isEmpty()) {
-            Node u = priorityQueue.poll();
-
-            if (u.equals(endNode)) break; // Path found
-
-            graph.getEdges().stream()
-                .filter(edge -> edge.getSource().equals(u))
-                .forEach(edge -> {
-                    Node v = edge.getTarget();
-                    double weight = edge.getWeight();
-                    double distanceThroughU = distances.get(u) + weight;
-                    if (distanceThroughU < distances.get(v)) {
-                        distances.put(v, distanceThroughU);
-                        predecessors.put(v, u);
-                        priorityQueue.remove(v); // Mettre à jour la priorité
-                        priorityQueue.add(v);
-                    }
-                });
+            int u = priorityQueue.poll();
+            if ((++settled & 1023) == 0) {
+                monitor.progress(settled / (double) n); // Also the cancellation point
+            }
+
+            if (u == end) break; // Path found
+
+            double distanceToU = workspace.distance(u);
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                double distanceThroughU = distanceToU + weights[e];
+                if (distanceThroughU < workspace.distance(v)) {
+                    workspace.reach(v, distanceThroughU, u);
+                    priorityQueue.insertOrDecrease(v, distanceThroughU); // decrease-key en O(log n)
+                }
+            }
         }
 
-        if (distances.get(endNode) == Double.POSITIVE_INFINITY) {
+        if (!workspace.isReached(end)) {
             return new PathResult(null, Double.POSITIVE_INFINITY, 0); // Pas de chemin
         }
 
-        List<Node> path = new LinkedList<>();
-        Node current = endNode;
-        while (current != null) {
-            path.add(0, current);
-            if (current.equals(startNode)) break;
-            current = predecessors.get(current);
+        return new PathResult(workspace.pathTo(snapshot, end), workspace.distance(end), 0); // Time will be set by GraphManager
+    }
+
+    /**
+     * Distances depuis 'source' vers tous les nœuds de la vue, ou, si 'reverse' est vrai,
+     * de tous les nœuds vers 'source' (parcours des arcs entrants). Suppose des poids non négatifs.
+     */
+    static double[] shortestDistances(GraphSnapshot snapshot, int source, boolean reverse) {
+        int n = snapshot.getNodeCount();
+        int[] offsets = reverse ? snapshot.getIncomingOffsets() : snapshot.getOffsets();
+        int[] adjacent = reverse ? snapshot.getIncomingSources() : snapshot.getTargets();
+        double[] weights = reverse ? snapshot.getIncomingWeights() : snapshot.getWeights();
+
+        double[] distances = new double[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        IndexedDaryHeap queue = new IndexedDaryHeap(n);
+        distances[source] = 0.0;
+        queue.insert(source, 0.0);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = adjacent[e];
+                double candidate = distances[u] + weights[e];
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    queue.insertOrDecrease(v, candidate);
+                }
+            }
         }
-        
-        return new PathResult(path, distances.get(endNode), 0); // Time will be set by GraphManager
+        return distances;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.util.IndexedDaryHeap;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Distances plusieurs-vers-plusieurs : une seule recherche par source, arrêtée dès que toutes les
+ * cibles sont fixées, les sources étant traitées en parallèle sur le ForkJoinPool commun.
+ * Les indices sont ceux de la vue CSR ; un indice négatif (nœud inconnu) donne une distance infinie.
+ */
+public final class DistanceMatrix {
+
+    private DistanceMatrix() {
+    }
+
+    /**
+     * matrix[i][j] = distance de sources[i] vers targets[j] (+infini si inaccessible,
+     * -infini si un cycle de poids négatif est accessible depuis la source).
+     */
+    public static double[][] compute(GraphSnapshot snapshot, int[] sources, int[] targets) {
+        boolean negativeWeights = snapshot.hasNegativeWeights();
+        double[][] matrix = new double[sources.length][];
+        IntStream.range(0, sources.length).parallel().forEach(i -> {
+            matrix[i] = negativeWeights
+                    ? fromFullTree(snapshot, sources[i], targets)
+                    : fromSource(snapshot, sources[i], targets);
+        });
+        return matrix;
+    }
+
+    // Dijkstra from 'source', stopped once every distinct target has been settled
+    static double[] fromSource(GraphSnapshot snapshot, int source, int[] targets) {
+        double[] row = new double[targets.length];
+        Arrays.fill(row, Double.POSITIVE_INFINITY);
+        if (source < 0) return row;
+
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] adjacent = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+
+        boolean[] isTarget = new boolean[n];
+        int remaining = 0;
+        for (int target : targets) {
+            if (target >= 0 && !isTarget[target]) {
+                isTarget[target] = true;
+                remaining++;
+            }
+        }
+
+        double[] distances = new double[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        IndexedDaryHeap queue = new IndexedDaryHeap(n);
+        distances[source] = 0.0;
+        queue.insert(source, 0.0);
+        while (remaining > 0 && !queue.isEmpty()) {
+            int u = queue.poll();
+            if (isTarget[u]) remaining--;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = adjacent[e];
+                double candidate = distances[u] + weights[e];
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    queue.insertOrDecrease(v, candidate);
+                }
+            }
+        }
+        for (int j = 0; j < targets.length; j++) {
+            if (targets[j] >= 0) row[j] = distances[targets[j]];
+        }
+        return row;
+    }
+
+    // Negative weights: no early stop is possible, use the full Bellman-Ford (SPFA) tree
+    private static double[] fromFullTree(GraphSnapshot snapshot, int source, int[] targets) {
+        double[] row = new double[targets.length];
+        Arrays.fill(row, Double.POSITIVE_INFINITY);
+        if (source < 0) return row;
+        double[] distances = BellmanFordStrategy.shortestDistances(snapshot, source);
+        if (distances == null) {
+            Arrays.fill(row, Double.NEGATIVE_INFINITY); // Negative cycle reachable from the source
+            return row;
+        }
+        for (int j = 0; j < targets.length; j++) {
+            if (targets[j] >= 0) row[j] = distances[targets[j]];
+        }
+        return row;
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphChange;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.IndexedDaryHeap;
+import com.example.graphapp.util.PathResult;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Arbre des plus courts chemins depuis une source fixe, maintenu de façon incrémentale
+ * (à la manière de Ramalingam-Reps) à partir du journal des modifications du graphe.
+ * L'arbre est mis à jour à la première requête qui suit une ou plusieurs modifications, en un seul lot :
+ * <ul>
+ *   <li>hausse de poids ou suppression d'un arc de l'arbre : seul le sous-arbre concerné est invalidé,
+ *       puis reconstruit depuis ses arcs entrants venant du reste de l'arbre ;</li>
+ *   <li>baisse de poids ou ajout d'un arc : l'amélioration est propagée depuis la cible de l'arc.</li>
+ * </ul>
+ * Le travail est proportionnel à la partie de l'arbre qui change. Tout autre changement (suppression
+ * de nœud, effacement, journal trop court) ou la présence de poids négatifs provoque un recalcul
+ * complet (Dijkstra, ou Bellman-Ford pour les poids négatifs). Thread-safe.
+ */
+public final class DynamicShortestPathTree {
+    private final Graph graph;
+    private final Node source;
+
+    private GraphSnapshot snapshot; // Version the tree currently reflects
+    private int sourceIndex = -1;
+    private double[] distances = new double[0];
+    private int[] parents = new int[0]; // Predecessor in the tree, -1 for the root and unreached nodes
+    private boolean negativeCycle;
+    private boolean[] affected = new boolean[0];
+    private IndexedDaryHeap queue = new IndexedDaryHeap(0);
+
+    private long fullRebuilds;
+    private long incrementalRepairs;
+    private int lastRepairSize; // Nodes invalidated or improved by the last incremental repair
+
+    public DynamicShortestPathTree(Graph graph, Node source) {
+        this.graph = graph;
+        this.source = source;
+    }
+
+    public Node getSource() {
+        return source;
+    }
+
+    public Graph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Met l'arbre à jour avec la version courante du graphe (sans effet si rien n'a changé).
+     */
+    public synchronized void refresh() {
+        GraphSnapshot current = graph.snapshot();
+        if (current == snapshot) return;
+        List<GraphChange> changes = snapshot != null ? graph.getChangesSince(snapshot.getVersion()) : null;
+        if (changes != null && repair(current, changes)) {
+            incrementalRepairs++;
+        } else {
+            rebuild(current);
+            fullRebuilds++;
+        }
+        snapshot = current;
+    }
+
+    /**
+     * Distance depuis la source (+infini si inaccessible, -infini si un cycle négatif est accessible).
+     */
+    public synchronized double distanceTo(Node target) {
+        refresh();
+        int index = snapshot.indexOf(target);
+        if (index < 0 || sourceIndex < 0) return Double.POSITIVE_INFINITY;
+        return negativeCycle ? Double.NEGATIVE_INFINITY : distances[index];
+    }
+
+    public synchronized PathResult pathTo(Node target) {
+        refresh();
+        int index = snapshot.indexOf(target);
+        if (index < 0 || sourceIndex < 0 || distances[index] == Double.POSITIVE_INFINITY) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, 0);
+        }
+        if (negativeCycle) {
+            return new PathResult(null, Double.NEGATIVE_INFINITY, 0);
+        }
+        return new PathResult(snapshot.buildPath(parents, index), distances[index], 0);
+    }
+
+    public synchronized long getVersion() {
+        return snapshot != null ? snapshot.getVersion() : -1;
+    }
+
+    public synchronized long getFullRebuilds() {
+        return fullRebuilds;
+    }
+
+    public synchronized long getIncrementalRepairs() {
+        return incrementalRepairs;
+    }
+
+    public synchronized int getLastRepairSize() {
+        return lastRepairSize;
+    }
+
+    private void rebuild(GraphSnapshot current) {
+        int n = current.getNodeCount();
+        distances = new double[n];
+        parents = new int[n];
+        affected = new boolean[n];
+        queue = new IndexedDaryHeap(n);
+        negativeCycle = false;
+        sourceIndex = current.indexOf(source);
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(parents, -1);
+        if (sourceIndex < 0) return; // Source no longer in the graph
+
+        if (current.hasNegativeWeights()) {
+            negativeCycle = !BellmanFordStrategy.shortestTree(current, sourceIndex, distances, parents);
+            return;
+        }
+        distances[sourceIndex] = 0.0;
+        queue.insert(sourceIndex, 0.0);
+        propagate(current);
+    }
+
+    // Returns false when the changes cannot be repaired incrementally
+    private boolean repair(GraphSnapshot current, List<GraphChange> changes) {
+        if (sourceIndex < 0 || negativeCycle || snapshot.hasNegativeWeights() || current.hasNegativeWeights()) {
+            return false;
+        }
+        for (GraphChange change : changes) {
+            if (change.getVersion() > current.getVersion()) break;
+            switch (change.getType()) {
+                case EDGE_ADDED:
+                case EDGE_REMOVED:
+                case WEIGHT_CHANGED:
+                case NODE_ADDED:
+                    break;
+                default:
+                    return false; // Node removal or clear shifts the dense indices
+            }
+        }
+
+        // Added nodes are appended to the node list: existing indices are unchanged
+        int n = current.getNodeCount();
+        if (n > distances.length) {
+            int old = distances.length;
+            distances = Arrays.copyOf(distances, n);
+            parents = Arrays.copyOf(parents, n);
+            affected = Arrays.copyOf(affected, n);
+            Arrays.fill(distances, old, n, Double.POSITIVE_INFINITY);
+            Arrays.fill(parents, old, n, -1);
+            queue.ensureCapacity(n);
+        }
+
+        // 1. Tree edges that got longer or disappeared: invalidate the subtree below them
+        int[] offsets = current.getOffsets();
+        int[] targets = current.getTargets();
+        int[] invalidated = new int[16];
+        int invalidatedCount = 0;
+        for (GraphChange change : changes) {
+            if (change.getVersion() > current.getVersion()) break;
+            if (change.getType() == GraphChange.Type.NODE_ADDED) continue;
+            double oldWeight = previousWeight(change);
+            if (!(newWeight(change) > oldWeight)) continue;
+            int u = current.indexOf(change.getEdge().getSource());
+            int v = current.indexOf(change.getEdge().getTarget());
+            if (u < 0 || v < 0) return false;
+            if (affected[v] || parents[v] != u || distances[u] + oldWeight > distances[v]) continue; // Not a tree edge
+            affected[v] = true;
+            if (invalidatedCount == invalidated.length) invalidated = Arrays.copyOf(invalidated, invalidatedCount * 2);
+            invalidated[invalidatedCount++] = v;
+            // Depth-first walk of the subtree through the current out-edges; the list doubles as the stack
+            for (int i = invalidatedCount - 1; i < invalidatedCount; i++) {
+                int x = invalidated[i];
+                for (int e = offsets[x]; e < offsets[x + 1]; e++) {
+                    int y = targets[e];
+                    if (affected[y] || parents[y] != x) continue;
+                    affected[y] = true;
+                    if (invalidatedCount == invalidated.length) invalidated = Arrays.copyOf(invalidated, invalidatedCount * 2);
+                    invalidated[invalidatedCount++] = y;
+                }
+            }
+        }
+        for (int i = 0; i < invalidatedCount; i++) {
+            distances[invalidated[i]] = Double.POSITIVE_INFINITY;
+            parents[invalidated[i]] = -1;
+        }
+
+        // 2. Re-attach invalidated nodes through their best in-edge from the intact part of the tree
+        int[] inOffsets = current.getIncomingOffsets();
+        int[] inSources = current.getIncomingSources();
+        double[] inWeights = current.getIncomingWeights();
+        for (int i = 0; i < invalidatedCount; i++) {
+            int y = invalidated[i];
+            for (int e = inOffsets[y]; e < inOffsets[y + 1]; e++) {
+                int x = inSources[e];
+                if (affected[x]) continue;
+                double candidate = distances[x] + inWeights[e];
+                if (candidate < distances[y]) {
+                    distances[y] = candidate;
+                    parents[y] = x;
+                }
+            }
+            if (distances[y] != Double.POSITIVE_INFINITY) {
+                queue.insertOrDecrease(y, distances[y]);
+            }
+        }
+        for (int i = 0; i < invalidatedCount; i++) {
+            affected[invalidated[i]] = false;
+        }
+
+        // 3. Edges that got shorter or were added: seed the improvement at their target
+        for (GraphChange change : changes) {
+            if (change.getVersion() > current.getVersion()) break;
+            if (change.getType() == GraphChange.Type.NODE_ADDED) continue;
+            double weight = newWeight(change);
+            if (!(weight < previousWeight(change))) continue;
+            int u = current.indexOf(change.getEdge().getSource());
+            int v = current.indexOf(change.getEdge().getTarget());
+            if (u < 0 || v < 0) return false;
+            // A later change of the same edge may already be in the snapshot: use the current weight,
+            // and skip the seed if the edge was removed since
+            double currentWeight = currentWeight(current, u, v);
+            if (currentWeight == Double.POSITIVE_INFINITY) continue;
+            double candidate = distances[u] + currentWeight;
+            if (candidate < distances[v]) {
+                distances[v] = candidate;
+                parents[v] = u;
+                queue.insertOrDecrease(v, candidate);
+            }
+        }
+
+        // 4. Dijkstra from the seeds: every label is an upper bound, only improvements propagate
+        lastRepairSize = invalidatedCount + propagate(current);
+        return true;
+    }
+
+    // Returns the number of nodes settled
+    private int propagate(GraphSnapshot current) {
+        int[] offsets = current.getOffsets();
+        int[] targets = current.getTargets();
+        double[] weights = current.getWeights();
+        int settled = 0;
+        while (!queue.isEmpty()) {
+            int x = queue.poll();
+            settled++;
+            double dx = distances[x];
+            for (int e = offsets[x]; e < offsets[x + 1]; e++) {
+                int y = targets[e];
+                double candidate = dx + weights[e];
+                if (candidate < distances[y]) {
+                    distances[y] = candidate;
+                    parents[y] = x;
+                    queue.insertOrDecrease(y, candidate);
+                }
+            }
+        }
+        return settled;
+    }
+
+    // Smallest weight of the u -> v edges present in the snapshot, +infinity if there is none
+    private static double currentWeight(GraphSnapshot current, int u, int v) {
+        int[] offsets = current.getOffsets();
+        int[] targets = current.getTargets();
+        double[] weights = current.getWeights();
+        double best = Double.POSITIVE_INFINITY;
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+            if (targets[e] == v) best = Math.min(best, weights[e]);
+        }
+        return best;
+    }
+
+    // Weight before the change (+infinity for an added edge)
+    private static double previousWeight(GraphChange change) {
+        return change.getType() == GraphChange.Type.EDGE_ADDED ? Double.POSITIVE_INFINITY : change.getOldWeight();
+    }
+
+    // Weight after the change (+infinity for a removed edge)
+    private static double newWeight(GraphChange change) {
+        return change.getType() == GraphChange.Type.EDGE_REMOVED ? Double.POSITIVE_INFINITY : change.getNewWeight();
+    }
+}
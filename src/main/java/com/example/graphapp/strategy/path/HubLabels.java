@@ -0,0 +1,281 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.util.IndexedDaryHeap;
+import com.example.graphapp.util.SearchMonitor;
+import com.example.graphapp.util.SearchWorkspace;
+
+import java.util.Arrays;
+
+/**
+ * Étiquetage 2-hop (hub labeling) construit par étiquetage pruné par repères (Akiba et al.) :
+ * chaque nœud v reçoit une étiquette sortante {(h, d(v, h))} et une étiquette entrante {(h, d(h, v))},
+ * et d(s, t) = min sur les hubs h communs de d(s, h) + d(h, t). Les hubs sont traités du plus
+ * important au moins important ; la recherche depuis un hub est élaguée dès que les étiquettes déjà
+ * posées donnent une distance aussi courte. L'ordre fait la taille des étiquettes : le degré convient
+ * aux graphes à hubs naturels, mais sur un graphe routier (degrés presque uniformes) l'ordre de
+ * contraction d'une {@link ContractionHierarchy} donne des étiquettes des dizaines de fois plus
+ * petites. Les étiquettes sont rangées en CSR (tableaux primitifs), triées par rang de hub : une
+ * requête est une fusion linéaire de deux étiquettes, sans recherche dans le graphe.
+ * Liées à une version du graphe ; suppose des poids non négatifs.
+ */
+public final class HubLabels {
+    // Hub order: DEGREE for graphs with natural hubs, CONTRACTION for road-like graphs
+    public enum Order { DEGREE, CONTRACTION }
+
+    private final GraphSnapshot snapshot;
+    private final Order order;        // null for an order given by the caller
+    private final int[] hubNodes;     // hubNodes[rank]: node of the hub of that rank
+    // Out-labels: hubs reachable from v, with d(v, hub); in-labels: hubs reaching v, with d(hub, v)
+    private final int[] outOffsets;
+    private final int[] outHubs;      // Hub ranks, increasing within each label
+    private final double[] outDistances;
+    private final int[] inOffsets;
+    private final int[] inHubs;
+    private final double[] inDistances;
+
+    private HubLabels(GraphSnapshot snapshot, Order order, int[] hubNodes, int[] outOffsets, int[] outHubs, double[] outDistances,
+                      int[] inOffsets, int[] inHubs, double[] inDistances) {
+        this.snapshot = snapshot;
+        this.order = order;
+        this.hubNodes = hubNodes;
+        this.outOffsets = outOffsets;
+        this.outHubs = outHubs;
+        this.outDistances = outDistances;
+        this.inOffsets = inOffsets;
+        this.inHubs = inHubs;
+        this.inDistances = inDistances;
+    }
+
+    public static HubLabels build(GraphSnapshot snapshot) {
+        return build(snapshot, SearchMonitor.NONE);
+    }
+
+    /**
+     * Hubs dans l'ordre demandé : degré décroissant, ou ordre d'importance d'une hiérarchie de
+     * contraction construite pour l'occasion (le moniteur suit alors les deux constructions).
+     */
+    public static HubLabels build(GraphSnapshot snapshot, Order order, SearchMonitor monitor) {
+        if (order == Order.DEGREE) {
+            return build(snapshot, monitor);
+        }
+        return build(snapshot, ContractionHierarchy.build(snapshot, monitor).getImportanceOrder(), Order.CONTRACTION, monitor);
+    }
+
+    /**
+     * Hubs par degré décroissant : les nœuds les mieux reliés couvrent le plus de plus courts chemins
+     * et élaguent d'autant les recherches suivantes. Réservé aux graphes à hubs naturels ; sur un
+     * graphe routier, préférer {@link Order#CONTRACTION} (ordre par défaut de GraphManager).
+     */
+    public static HubLabels build(GraphSnapshot snapshot, SearchMonitor monitor) {
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] inOffsets = snapshot.getIncomingOffsets();
+        Integer[] byDegree = new Integer[n];
+        for (int v = 0; v < n; v++) {
+            byDegree[v] = v;
+        }
+        Arrays.sort(byDegree, (a, b) -> Integer.compare(
+                offsets[b + 1] - offsets[b] + inOffsets[b + 1] - inOffsets[b],
+                offsets[a + 1] - offsets[a] + inOffsets[a + 1] - inOffsets[a]));
+        int[] hubNodes = new int[n];
+        for (int r = 0; r < n; r++) {
+            hubNodes[r] = byDegree[r];
+        }
+        return build(snapshot, hubNodes, Order.DEGREE, monitor);
+    }
+
+    /**
+     * Construit les étiquettes : deux recherches élaguées (avant et arrière) par hub, dans l'ordre
+     * donné (permutation de tous les nœuds, le plus important en premier). Le moniteur est consulté
+     * à chaque hub.
+     * @throws IllegalArgumentException si le graphe contient des poids négatifs.
+     */
+    public static HubLabels build(GraphSnapshot snapshot, int[] hubNodes, SearchMonitor monitor) {
+        return build(snapshot, hubNodes, null, monitor);
+    }
+
+    private static HubLabels build(GraphSnapshot snapshot, int[] hubNodes, Order order, SearchMonitor monitor) {
+        if (snapshot.hasNegativeWeights()) {
+            throw new IllegalArgumentException("Hub labeling requires non-negative edge weights");
+        }
+        int n = snapshot.getNodeCount();
+
+        Labels out = new Labels(n);
+        Labels in = new Labels(n);
+        double[] hubDistances = new double[n]; // Label of the current hub, spread by rank
+        Arrays.fill(hubDistances, Double.POSITIVE_INFINITY);
+        for (int r = 0; r < n; r++) {
+            if ((r & 255) == 0) {
+                monitor.progress(r / (double) n);
+            }
+            int hub = hubNodes[r];
+            // Forward: d(hub, v) lands in the in-label of v
+            prunedSearch(snapshot, hub, r, false, out, in, hubDistances);
+            // Backward: d(v, hub) lands in the out-label of v
+            prunedSearch(snapshot, hub, r, true, in, out, hubDistances);
+        }
+        monitor.progress(1.0);
+
+        int[] outHubOffsets = out.offsets();
+        int[] inHubOffsets = in.offsets();
+        return new HubLabels(snapshot, order, hubNodes,
+                outHubOffsets, out.flatHubs(outHubOffsets), out.flatDistances(outHubOffsets),
+                inHubOffsets, in.flatHubs(inHubOffsets), in.flatDistances(inHubOffsets));
+    }
+
+    // Dijkstra from 'hub' (over incoming edges if 'reverse'); a node already covered by earlier hubs
+    // (hubLabel of the hub merged with the node's 'target' label) is neither labelled nor expanded
+    private static void prunedSearch(GraphSnapshot snapshot, int hub, int rank, boolean reverse,
+                                     Labels hubLabel, Labels target, double[] hubDistances) {
+        int[] offsets = reverse ? snapshot.getIncomingOffsets() : snapshot.getOffsets();
+        int[] adjacent = reverse ? snapshot.getIncomingSources() : snapshot.getTargets();
+        double[] weights = reverse ? snapshot.getIncomingWeights() : snapshot.getWeights();
+
+        int[] hubRanks = hubLabel.hubs[hub];
+        double[] hubDists = hubLabel.distances[hub];
+        int hubSize = hubLabel.sizes[hub];
+        for (int i = 0; i < hubSize; i++) {
+            hubDistances[hubRanks[i]] = hubDists[i];
+        }
+
+        SearchWorkspace workspace = SearchWorkspace.acquire(snapshot.getNodeCount());
+        IndexedDaryHeap queue = workspace.getHeap();
+        workspace.reach(hub, 0.0, -1);
+        queue.insert(hub, 0.0);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            double du = workspace.distance(u);
+            if (coveredDistance(target, u, hubDistances) <= du) continue; // Pruned
+            target.add(u, rank, du);
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = adjacent[e];
+                double candidate = du + weights[e];
+                if (candidate < workspace.distance(v)) {
+                    workspace.reach(v, candidate, u);
+                    queue.insertOrDecrease(v, candidate);
+                }
+            }
+        }
+
+        for (int i = 0; i < hubSize; i++) {
+            hubDistances[hubRanks[i]] = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    private static double coveredDistance(Labels labels, int node, double[] hubDistances) {
+        int[] ranks = labels.hubs[node];
+        double[] dists = labels.distances[node];
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < labels.sizes[node]; i++) {
+            best = Math.min(best, hubDistances[ranks[i]] + dists[i]);
+        }
+        return best;
+    }
+
+    /**
+     * d(source, target) (indices de la vue CSR), +infini si inaccessible.
+     */
+    public double distance(int source, int target) {
+        if (source == target) return 0.0;
+        int i = outOffsets[source];
+        int iEnd = outOffsets[source + 1];
+        int j = inOffsets[target];
+        int jEnd = inOffsets[target + 1];
+        double best = Double.POSITIVE_INFINITY;
+        // Branch-light merge: both cursors advance on a common hub, only the smaller one otherwise
+        while (i < iEnd && j < jEnd) {
+            int a = outHubs[i];
+            int b = inHubs[j];
+            if (a == b) {
+                best = Math.min(best, outDistances[i] + inDistances[j]);
+            }
+            i += a <= b ? 1 : 0;
+            j += b <= a ? 1 : 0;
+        }
+        return best;
+    }
+
+    /**
+     * Nombre total d'entrées (étiquettes sortantes et entrantes).
+     */
+    public long getLabelEntryCount() {
+        return (long) outHubs.length + inHubs.length;
+    }
+
+    public double getAverageLabelSize() {
+        int n = snapshot.getNodeCount();
+        return n > 0 ? getLabelEntryCount() / (2.0 * n) : 0.0;
+    }
+
+    // Node of the hub of rank 'rank' (0: highest degree)
+    public int getHubNode(int rank) {
+        return hubNodes[rank];
+    }
+
+    // Ordre de construction, null pour un ordre fourni par l'appelant
+    public Order getOrder() {
+        return order;
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    // Growable labels during construction, flattened to CSR at the end
+    private static final class Labels {
+        final int[][] hubs;
+        final double[][] distances;
+        final int[] sizes;
+
+        Labels(int n) {
+            hubs = new int[n][];
+            distances = new double[n][];
+            sizes = new int[n];
+            for (int v = 0; v < n; v++) {
+                hubs[v] = new int[2];
+                distances[v] = new double[2];
+            }
+        }
+
+        // Ranks arrive in increasing order: labels stay sorted
+        void add(int node, int rank, double distance) {
+            int size = sizes[node];
+            if (size == hubs[node].length) {
+                hubs[node] = Arrays.copyOf(hubs[node], size * 2);
+                distances[node] = Arrays.copyOf(distances[node], size * 2);
+            }
+            hubs[node][size] = rank;
+            distances[node][size] = distance;
+            sizes[node] = size + 1;
+        }
+
+        int[] offsets() {
+            int[] offsets = new int[sizes.length + 1];
+            for (int v = 0; v < sizes.length; v++) {
+                offsets[v + 1] = offsets[v] + sizes[v];
+            }
+            return offsets;
+        }
+
+        int[] flatHubs(int[] offsets) {
+            int[] flat = new int[offsets[sizes.length]];
+            for (int v = 0; v < sizes.length; v++) {
+                System.arraycopy(hubs[v], 0, flat, offsets[v], sizes[v]);
+            }
+            return flat;
+        }
+
+        double[] flatDistances(int[] offsets) {
+            double[] flat = new double[offsets[sizes.length]];
+            for (int v = 0; v < sizes.length; v++) {
+                System.arraycopy(distances[v], 0, flat, offsets[v], sizes[v]);
+            }
+            return flat;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.util.SearchMonitor;
+
+/**
+ * Plus courts chemins entre toutes les paires par l'algorithme de Johnson, pour les graphes creux
+ * avec poids négatifs. Même table (distances et prédécesseurs) et même suivi des versions du
+ * graphe que {@link FloydWarshallStrategy} ; seul le calcul complet diffère.
+ */
+public class JohnsonStrategy extends FloydWarshallStrategy {
+    @Override
+    protected AllPairsTable computeTable(GraphSnapshot snapshot, SearchMonitor monitor) {
+        return AllPairsTable.johnson(snapshot, monitor);
+    }
+}
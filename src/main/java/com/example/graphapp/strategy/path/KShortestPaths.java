@@ -0,0 +1,244 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.IndexedDaryHeap;
+import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchWorkspace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Les k plus courts chemins sans boucle (Yen), avec les calculs partagés entre recherches de déviation :
+ * <ul>
+ *   <li>un seul arbre inverse des plus courts chemins vers la cible : la distance d(v, cible) du graphe
+ *       complet est une heuristique A* exacte ou optimiste pour chaque recherche de déviation
+ *       (retirer des nœuds et des arcs ne raccourcit aucun chemin), et lorsque le chemin de l'arbre
+ *       depuis le nœud de déviation n'est pas bloqué, il est repris tel quel, sans recherche ;</li>
+ *   <li>les coûts des préfixes (chemins racines) sont cumulés une fois par chemin retenu ;</li>
+ *   <li>un chemin n'est dévié qu'à partir de son propre point de déviation (amélioration de Lawler) :
+ *       les déviations antérieures ont déjà été produites depuis ses ancêtres.</li>
+ * </ul>
+ * Les candidats sont dédoublonnés et classés dans un tas. Suppose des poids non négatifs.
+ */
+public final class KShortestPaths {
+
+    private KShortestPaths() {
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+        final int[] nodes;
+        final double[] prefixCosts; // prefixCosts[i]: cost from the source to nodes[i]
+        final int deviation;        // Index of the spur node this path was generated from
+
+        Candidate(int[] nodes, double[] prefixCosts, int deviation) {
+            this.nodes = nodes;
+            this.prefixCosts = prefixCosts;
+            this.deviation = deviation;
+        }
+
+        double cost() {
+            return prefixCosts[prefixCosts.length - 1];
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            int byCost = Double.compare(cost(), other.cost());
+            return byCost != 0 ? byCost : Integer.compare(nodes.length, other.nodes.length);
+        }
+    }
+
+    /**
+     * Jusqu'à 'k' chemins sans boucle de 'source' vers 'target' (indices de la vue CSR), par coût croissant.
+     * Liste vide si la cible est inaccessible.
+     * @throws IllegalArgumentException si le graphe contient des poids négatifs.
+     */
+    public static List<PathResult> find(GraphSnapshot snapshot, int source, int target, int k) {
+        List<PathResult> results = new ArrayList<>();
+        if (k <= 0 || source < 0 || target < 0) return results;
+        if (snapshot.hasNegativeWeights()) {
+            throw new IllegalArgumentException("K-shortest paths require non-negative edge weights");
+        }
+
+        int n = snapshot.getNodeCount();
+        double[] toTarget = new double[n];
+        int[] successor = new int[n];
+        double[] successorWeight = new double[n];
+        reverseTree(snapshot, target, toTarget, successor, successorWeight);
+        if (toTarget[source] == Double.POSITIVE_INFINITY) return results;
+
+        int[] rootStamps = new int[n];    // rootStamps[v] == stamp: v lies on the current root path
+        int[] blockedStamps = new int[n]; // blockedStamps[v] == stamp: the edge spur -> v is removed
+        int stamp = 0;
+
+        List<Candidate> accepted = new ArrayList<>();
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>();
+        Set<List<Integer>> seen = new HashSet<>();
+        Candidate first = treeSpur(null, 0, source, successor, successorWeight, target, rootStamps, blockedStamps, 0);
+        seen.add(asList(first.nodes));
+        candidates.add(first);
+
+        while (accepted.size() < k && !candidates.isEmpty()) {
+            Candidate path = candidates.poll();
+            accepted.add(path);
+            results.add(toResult(snapshot, path));
+            if (accepted.size() == k) break;
+
+            for (int i = path.deviation; i < path.nodes.length - 1; i++) {
+                int spur = path.nodes[i];
+                stamp++;
+                for (int j = 0; j < i; j++) {
+                    rootStamps[path.nodes[j]] = stamp;
+                }
+                // Remove the next edge of every accepted path sharing this root path
+                for (Candidate other : accepted) {
+                    if (other.nodes.length > i + 1 && sharesPrefix(other.nodes, path.nodes, i)) {
+                        blockedStamps[other.nodes[i + 1]] = stamp;
+                    }
+                }
+
+                Candidate spurPath = treeSpur(path, i, spur, successor, successorWeight, target, rootStamps, blockedStamps, stamp);
+                if (spurPath == null) {
+                    spurPath = searchSpur(snapshot, path, i, target, toTarget, rootStamps, blockedStamps, stamp);
+                }
+                if (spurPath != null && seen.add(asList(spurPath.nodes))) {
+                    candidates.add(spurPath);
+                }
+            }
+        }
+        return results;
+    }
+
+    // Distances to 'target' over the incoming edges, with the next hop (and its weight) towards it
+    private static void reverseTree(GraphSnapshot snapshot, int target, double[] toTarget, int[] successor, double[] successorWeight) {
+        int[] inOffsets = snapshot.getIncomingOffsets();
+        int[] inSources = snapshot.getIncomingSources();
+        double[] inWeights = snapshot.getIncomingWeights();
+        Arrays.fill(toTarget, Double.POSITIVE_INFINITY);
+        Arrays.fill(successor, -1);
+        IndexedDaryHeap queue = new IndexedDaryHeap(snapshot.getNodeCount());
+        toTarget[target] = 0.0;
+        queue.insert(target, 0.0);
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                int u = inSources[e];
+                double candidate = toTarget[v] + inWeights[e];
+                if (candidate < toTarget[u]) {
+                    toTarget[u] = candidate;
+                    successor[u] = v;
+                    successorWeight[u] = inWeights[e];
+                    queue.insertOrDecrease(u, candidate);
+                }
+            }
+        }
+    }
+
+    // Root path of 'path' up to index i, followed by the reverse-tree path from the spur node,
+    // or null if that tree path uses a removed node or edge
+    private static Candidate treeSpur(Candidate path, int i, int spur, int[] successor, double[] successorWeight,
+                                      int target, int[] rootStamps, int[] blockedStamps, int stamp) {
+        if (spur != target && (successor[spur] < 0 || (stamp > 0 && blockedStamps[successor[spur]] == stamp))) {
+            return null;
+        }
+        int length = i + 1;
+        for (int v = spur; v != target; v = successor[v]) {
+            if (stamp > 0 && rootStamps[successor[v]] == stamp) return null; // Would loop back into the root path
+            length++;
+        }
+        int[] nodes = new int[length];
+        double[] prefixCosts = new double[length];
+        if (path != null) {
+            System.arraycopy(path.nodes, 0, nodes, 0, i);
+            System.arraycopy(path.prefixCosts, 0, prefixCosts, 0, i + 1);
+        }
+        int index = i;
+        nodes[index] = spur;
+        for (int v = spur; v != target; v = successor[v]) {
+            nodes[index + 1] = successor[v];
+            prefixCosts[index + 1] = prefixCosts[index] + successorWeight[v];
+            index++;
+        }
+        return new Candidate(nodes, prefixCosts, i);
+    }
+
+    // A* from the spur node on the graph without the root path and the blocked edges,
+    // guided by the exact distances to the target in the complete graph
+    private static Candidate searchSpur(GraphSnapshot snapshot, Candidate path, int i, int target, double[] toTarget,
+                                        int[] rootStamps, int[] blockedStamps, int stamp) {
+        int spur = path.nodes[i];
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        SearchWorkspace workspace = SearchWorkspace.acquire(snapshot.getNodeCount());
+        IndexedDaryHeap open = workspace.getHeap();
+        workspace.reach(spur, 0.0, -1);
+        open.insert(spur, toTarget[spur]);
+
+        while (!open.isEmpty()) {
+            int u = open.poll();
+            if (u == target) break;
+            workspace.close(u);
+            double du = workspace.distance(u);
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (rootStamps[v] == stamp || v == spur || workspace.isClosed(v)) continue;
+                if (u == spur && blockedStamps[v] == stamp) continue;
+                if (toTarget[v] == Double.POSITIVE_INFINITY) continue; // Cannot reach the target at all
+                double candidate = du + weights[e];
+                if (candidate < workspace.distance(v)) {
+                    workspace.reach(v, candidate, u);
+                    open.insertOrDecrease(v, candidate + toTarget[v]);
+                }
+            }
+        }
+        if (!workspace.isReached(target)) {
+            return null; // Once reached, the target is always polled before the queue runs dry
+        }
+
+        int spurLength = 0;
+        for (int v = target; v != -1; v = workspace.parent(v)) {
+            spurLength++;
+        }
+        int[] nodes = new int[i + spurLength];
+        double[] prefixCosts = new double[i + spurLength];
+        System.arraycopy(path.nodes, 0, nodes, 0, i);
+        System.arraycopy(path.prefixCosts, 0, prefixCosts, 0, i);
+        double rootCost = path.prefixCosts[i];
+        int index = nodes.length - 1;
+        for (int v = target; v != -1; v = workspace.parent(v)) {
+            nodes[index] = v;
+            prefixCosts[index] = rootCost + workspace.distance(v);
+            index--;
+        }
+        return new Candidate(nodes, prefixCosts, i);
+    }
+
+    private static boolean sharesPrefix(int[] a, int[] b, int last) {
+        for (int j = 0; j <= last; j++) {
+            if (a[j] != b[j]) return false;
+        }
+        return true;
+    }
+
+    private static List<Integer> asList(int[] nodes) {
+        List<Integer> list = new ArrayList<>(nodes.length);
+        for (int v : nodes) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    private static PathResult toResult(GraphSnapshot snapshot, Candidate path) {
+        List<Node> nodes = new ArrayList<>(path.nodes.length);
+        for (int v : path.nodes) {
+            nodes.add(snapshot.getNode(v));
+        }
+        return new PathResult(nodes, path.cost(), 0);
+    }
+}
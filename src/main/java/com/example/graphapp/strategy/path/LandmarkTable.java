@@ -0,0 +1,182 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+
+/**
+ * Tables de distances précalculées pour l'heuristique ALT (A*, Landmarks, Triangle inequality).
+ * Pour chaque repère L on stocke d(L, v) et d(v, L) pour tous les nœuds v, dans des tableaux
+ * primitifs aplatis (repère * n + v). Les tables sont liées à une version du graphe.
+ * Suppose des poids non négatifs.
+ */
+public final class LandmarkTable {
+    private final long version;
+    private final int nodeCount;
+    private final int[] landmarks;
+    private final double[] fromLandmark; // d(L, v)
+    private final double[] toLandmark;   // d(v, L)
+
+    private LandmarkTable(long version, int nodeCount, int[] landmarks, double[] fromLandmark, double[] toLandmark) {
+        this.version = version;
+        this.nodeCount = nodeCount;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /**
+     * Choisit jusqu'à 'count' repères par sélection du point le plus éloigné et calcule leurs tables.
+     */
+    public static LandmarkTable build(GraphSnapshot snapshot, int count) {
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] incomingOffsets = snapshot.getIncomingOffsets();
+
+        // Nodes without any edge can neither use nor serve as a landmark
+        int candidates = 0;
+        int seed = -1;
+        int seedDegree = 0;
+        for (int v = 0; v < n; v++) {
+            int degree = (offsets[v + 1] - offsets[v]) + (incomingOffsets[v + 1] - incomingOffsets[v]);
+            if (degree > 0) candidates++;
+            if (degree > seedDegree) {
+                seedDegree = degree;
+                seed = v;
+            }
+        }
+        int k = Math.min(count, candidates);
+        int[] landmarks = new int[k];
+        double[] fromLandmark = new double[k * n];
+        double[] toLandmark = new double[k * n];
+        if (k == 0) {
+            return new LandmarkTable(snapshot.getVersion(), n, landmarks, fromLandmark, toLandmark);
+        }
+
+        // separation[v]: distance from v to the closest landmark chosen so far (either direction)
+        double[] separation = new double[n];
+        double[] seedFrom = DijkstraStrategy.shortestDistances(snapshot, seed, false);
+        double[] seedTo = DijkstraStrategy.shortestDistances(snapshot, seed, true);
+        for (int v = 0; v < n; v++) {
+            separation[v] = Math.min(seedFrom[v], seedTo[v]);
+        }
+
+        for (int i = 0; i < k; i++) {
+            int landmark = farthest(separation, offsets, incomingOffsets);
+            landmarks[i] = landmark;
+            double[] from = DijkstraStrategy.shortestDistances(snapshot, landmark, false);
+            double[] to = DijkstraStrategy.shortestDistances(snapshot, landmark, true);
+            System.arraycopy(from, 0, fromLandmark, i * n, n);
+            System.arraycopy(to, 0, toLandmark, i * n, n);
+            if (i == 0) {
+                // The seed only served to find the first landmark
+                for (int v = 0; v < n; v++) {
+                    separation[v] = Math.min(from[v], to[v]);
+                }
+            } else {
+                for (int v = 0; v < n; v++) {
+                    separation[v] = Math.min(separation[v], Math.min(from[v], to[v]));
+                }
+            }
+            separation[landmark] = -1.0; // never pick the same landmark twice
+        }
+        return new LandmarkTable(snapshot.getVersion(), n, landmarks, fromLandmark, toLandmark);
+    }
+
+    // Node with the largest separation; nodes not yet covered by any landmark (infinite) win,
+    // ties broken by degree so that landmarks land in other components rather than on leaves.
+    private static int farthest(double[] separation, int[] offsets, int[] incomingOffsets) {
+        int best = -1;
+        double bestSeparation = -1.0;
+        int bestDegree = -1;
+        for (int v = 0; v < separation.length; v++) {
+            int degree = (offsets[v + 1] - offsets[v]) + (incomingOffsets[v + 1] - incomingOffsets[v]);
+            if (degree == 0 || separation[v] < 0) continue;
+            if (separation[v] > bestSeparation || (separation[v] == bestSeparation && degree > bestDegree)) {
+                best = v;
+                bestSeparation = separation[v];
+                bestDegree = degree;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Borne inférieure de d(node, target) par inégalité triangulaire sur tous les repères.
+     * Retourne +infini lorsque les tables prouvent que 'target' est inaccessible depuis 'node'.
+     */
+    public double lowerBound(int node, int target) {
+        double bound = 0.0;
+        for (int i = 0, base = 0; i < landmarks.length; i++, base += nodeCount) {
+            // d(v, t) >= d(L, t) - d(L, v)
+            double fromNode = fromLandmark[base + node];
+            double fromTarget = fromLandmark[base + target];
+            if (fromNode != Double.POSITIVE_INFINITY) {
+                if (fromTarget == Double.POSITIVE_INFINITY) return Double.POSITIVE_INFINITY; // L reaches v but not t
+                bound = Math.max(bound, fromTarget - fromNode);
+            }
+            // d(v, t) >= d(v, L) - d(t, L)
+            double toNode = toLandmark[base + node];
+            double toTarget = toLandmark[base + target];
+            if (toTarget != Double.POSITIVE_INFINITY) {
+                if (toNode == Double.POSITIVE_INFINITY) return Double.POSITIVE_INFINITY; // t reaches L but not v
+                bound = Math.max(bound, toNode - toTarget);
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Borne supérieure de d(node, target) : meilleur détour par un repère, min d(node, L) + d(L, target).
+     */
+    public double upperBound(int node, int target) {
+        return distanceVia(closestLandmark(node, target), node, target);
+    }
+
+    /**
+     * Rang du repère offrant le plus court détour de 'node' vers 'target' (-1 sans repère).
+     */
+    public int closestLandmark(int node, int target) {
+        int best = -1;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < landmarks.length; i++) {
+            double via = distanceVia(i, node, target);
+            if (via < bestDistance || best < 0) {
+                best = i;
+                bestDistance = via;
+            }
+        }
+        return best;
+    }
+
+    // d(node, L) + d(L, target) for the landmark of rank i
+    private double distanceVia(int i, int node, int target) {
+        if (i < 0) return Double.POSITIVE_INFINITY;
+        return toLandmark[i * nodeCount + node] + fromLandmark[i * nodeCount + target];
+    }
+
+    // d(L, node) for the landmark of rank i
+    public double distanceFromLandmark(int i, int node) {
+        return fromLandmark[i * nodeCount + node];
+    }
+
+    // d(node, L) for the landmark of rank i
+    public double distanceToLandmark(int i, int node) {
+        return toLandmark[i * nodeCount + node];
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    // Node of the landmark of rank i
+    public int getLandmarkNode(int i) {
+        return landmarks[i];
+    }
+
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+}
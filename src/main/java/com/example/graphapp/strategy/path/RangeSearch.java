@@ -0,0 +1,100 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.util.IndexedDaryHeap;
+import com.example.graphapp.util.RangeResult;
+import com.example.graphapp.util.SearchWorkspace;
+
+import java.util.Arrays;
+
+/**
+ * Requête de zone (isochrone) : tous les nœuds à un coût au plus égal au budget depuis l'une des
+ * sources, en une seule recherche de Dijkstra multi-sources. Les sources démarrent toutes au coût 0 ;
+ * un nœud n'entre dans le tas que si son coût tient dans le budget, et la recherche s'arrête quand
+ * le tas est vide : le travail est proportionnel à la zone, pas au graphe.
+ * Avec des poids négatifs, l'arrêt anticipé n'est plus valide : arbre complet de Bellman-Ford, filtré.
+ */
+public final class RangeSearch {
+
+    private RangeSearch() {
+    }
+
+    /**
+     * Nœuds à un coût <= 'budget' des sources (indices de la vue CSR, les indices négatifs sont ignorés).
+     * @throws IllegalArgumentException si un cycle de poids négatif est accessible depuis les sources.
+     */
+    public static RangeResult search(GraphSnapshot snapshot, int[] sources, double budget) {
+        int[] roots = Arrays.stream(sources).filter(s -> s >= 0).distinct().toArray();
+        if (roots.length == 0 || !(budget >= 0)) {
+            return RangeResult.empty(snapshot, budget);
+        }
+        return snapshot.hasNegativeWeights()
+                ? fromFullTree(snapshot, roots, budget)
+                : bounded(snapshot, roots, budget);
+    }
+
+    private static RangeResult bounded(GraphSnapshot snapshot, int[] roots, double budget) {
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        double[] weights = snapshot.getWeights();
+        SearchWorkspace workspace = SearchWorkspace.acquire(snapshot.getNodeCount());
+        IndexedDaryHeap queue = workspace.getHeap();
+        for (int root : roots) {
+            workspace.reach(root, 0.0, -1);
+            queue.insert(root, 0.0);
+        }
+
+        // Settled nodes in polling order, i.e. by increasing cost
+        int[] nodes = new int[Math.max(16, roots.length)];
+        double[] costs = new double[nodes.length];
+        int[] parents = new int[nodes.length];
+        int count = 0;
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            double du = workspace.distance(u); // <= budget: roots cost 0, other nodes are queued only within budget
+            if (count == nodes.length) {
+                nodes = Arrays.copyOf(nodes, count * 2);
+                costs = Arrays.copyOf(costs, count * 2);
+                parents = Arrays.copyOf(parents, count * 2);
+            }
+            nodes[count] = u;
+            costs[count] = du;
+            parents[count] = workspace.parent(u);
+            count++;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                double candidate = du + weights[e];
+                if (candidate <= budget && candidate < workspace.distance(v)) {
+                    workspace.reach(v, candidate, u);
+                    queue.insertOrDecrease(v, candidate);
+                }
+            }
+        }
+        return new RangeResult(snapshot, budget, Arrays.copyOf(nodes, count), Arrays.copyOf(costs, count),
+                Arrays.copyOf(parents, count), 0);
+    }
+
+    private static RangeResult fromFullTree(GraphSnapshot snapshot, int[] roots, double budget) {
+        int n = snapshot.getNodeCount();
+        double[] distances = new double[n];
+        int[] predecessors = new int[n];
+        if (!BellmanFordStrategy.shortestTree(snapshot, roots, distances, predecessors)) {
+            throw new IllegalArgumentException("Negative-weight cycle reachable from the sources");
+        }
+        Integer[] order = new Integer[n];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            if (distances[v] <= budget) order[count++] = v;
+        }
+        Arrays.sort(order, 0, count, (a, b) -> Double.compare(distances[a], distances[b]));
+        int[] nodes = new int[count];
+        double[] costs = new double[count];
+        int[] parents = new int[count];
+        for (int i = 0; i < count; i++) {
+            nodes[i] = order[i];
+            costs[i] = distances[order[i]];
+            parents[i] = predecessors[order[i]];
+        }
+        return new RangeResult(snapshot, budget, nodes, costs, parents, 0);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.GraphChange;
+import com.example.graphapp.model.GraphSnapshot;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index d'accessibilité d'une version du graphe : composantes fortement connexes (Tarjan itératif),
+ * graphe condensé (DAG des composantes) et étiquettes d'intervalles de type GRAIL sur ce DAG.
+ * {@link #mayReach(int, int)} répond en O(1) : false prouve qu'aucun chemin n'existe,
+ * true signifie seulement qu'un chemin est possible (la recherche reste nécessaire).
+ */
+public final class ReachabilityIndex {
+    // Independent interval labelings; each one discards a different share of false positives
+    private static final int LABEL_COUNT = 2;
+
+    private final GraphSnapshot snapshot;
+    private final int[] component;    // SCC of each node; an edge a -> b between SCCs has component[a] > component[b]
+    private final int componentCount;
+    private final int dagEdgeCount;   // Distinct edges of the condensation DAG
+    private final int[][] low;        // low[l][c]: smallest post-order rank reachable from c in labeling l
+    private final int[][] post;       // post[l][c]: post-order rank of c in labeling l
+
+    private ReachabilityIndex(GraphSnapshot snapshot, int[] component, int componentCount,
+                              int dagEdgeCount, int[][] low, int[][] post) {
+        this.snapshot = snapshot;
+        this.component = component;
+        this.componentCount = componentCount;
+        this.dagEdgeCount = dagEdgeCount;
+        this.low = low;
+        this.post = post;
+    }
+
+    /**
+     * Construit l'index en O(LABEL_COUNT * (V + E)).
+     */
+    public static ReachabilityIndex build(GraphSnapshot snapshot) {
+        int n = snapshot.getNodeCount();
+        int[] component = new int[n];
+        int componentCount = tarjan(snapshot, component);
+
+        // Condensation: group nodes by component, then collect distinct inter-component edges
+        int[] memberOffsets = new int[componentCount + 1];
+        for (int v = 0; v < n; v++) {
+            memberOffsets[component[v] + 1]++;
+        }
+        for (int c = 0; c < componentCount; c++) {
+            memberOffsets[c + 1] += memberOffsets[c];
+        }
+        int[] members = new int[n];
+        int[] fill = Arrays.copyOf(memberOffsets, componentCount);
+        for (int v = 0; v < n; v++) {
+            members[fill[component[v]]++] = v;
+        }
+
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        // Condensation DAG in CSR form, without duplicate edges
+        int[] dagOffsets = new int[componentCount + 1];
+        int[] dagTargets = new int[16];
+        int[] lastSource = new int[componentCount]; // lastSource[d] == c + 1: edge c -> d already recorded
+        int edgeCount = 0;
+        for (int c = 0; c < componentCount; c++) {
+            for (int i = memberOffsets[c]; i < memberOffsets[c + 1]; i++) {
+                int u = members[i];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int d = component[targets[e]];
+                    if (d == c || lastSource[d] == c + 1) continue;
+                    lastSource[d] = c + 1;
+                    if (edgeCount == dagTargets.length) dagTargets = Arrays.copyOf(dagTargets, edgeCount * 2);
+                    dagTargets[edgeCount++] = d;
+                }
+            }
+            dagOffsets[c + 1] = edgeCount;
+        }
+        dagTargets = Arrays.copyOf(dagTargets, edgeCount);
+
+        int[][] low = new int[LABEL_COUNT][];
+        int[][] post = new int[LABEL_COUNT][];
+        for (int l = 0; l < LABEL_COUNT; l++) {
+            low[l] = new int[componentCount];
+            post[l] = new int[componentCount];
+            label(componentCount, dagOffsets, dagTargets, l % 2 == 1, low[l], post[l]);
+        }
+        return new ReachabilityIndex(snapshot, component, componentCount, edgeCount, low, post);
+    }
+
+    /**
+     * Le même index rattaché à 'newer' si les changements qui y mènent ('changes', depuis la version
+     * de cet index) ne touchent ni les nœuds ni le graphe condensé : poids modifiés et arcs ajoutés à
+     * l'intérieur d'une composante. null sinon (ou si 'changes' est null) : il faut reconstruire.
+     */
+    public ReachabilityIndex rebase(GraphSnapshot newer, List<GraphChange> changes) {
+        if (changes == null || newer.getNodeCount() != snapshot.getNodeCount()) return null;
+        for (GraphChange change : changes) {
+            if (change.getVersion() > newer.getVersion()) break; // Later than the target version
+            switch (change.getType()) {
+                case WEIGHT_CHANGED:
+                    break;
+                case EDGE_ADDED:
+                    int from = snapshot.indexOf(change.getEdge().getSource());
+                    int to = snapshot.indexOf(change.getEdge().getTarget());
+                    if (from < 0 || to < 0 || component[from] != component[to]) return null;
+                    break;
+                default:
+                    return null;
+            }
+        }
+        for (int v = 0; v < component.length; v++) {
+            if (newer.getNode(v) != snapshot.getNode(v)) return null; // Same node indices, O(V)
+        }
+        return new ReachabilityIndex(newer, component, componentCount, dagEdgeCount, low, post);
+    }
+
+    /**
+     * Tarjan sans récursion (pile d'appels explicite) : les composantes sont numérotées dans
+     * l'ordre où elles sont terminées, soit un ordre topologique inverse du graphe condensé.
+     */
+    private static int tarjan(GraphSnapshot snapshot, int[] component) {
+        int n = snapshot.getNodeCount();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        int[] discovery = new int[n];
+        Arrays.fill(discovery, -1);
+        int[] lowLink = new int[n];
+        int[] nextEdge = new int[n];
+        int[] callStack = new int[n];
+        int[] sccStack = new int[n];
+        boolean[] onStack = new boolean[n];
+        int counter = 0;
+        int sccSize = 0;
+        int componentCount = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (discovery[root] != -1) continue;
+            int depth = 0;
+            callStack[depth++] = root;
+            discovery[root] = lowLink[root] = counter++;
+            nextEdge[root] = offsets[root];
+            sccStack[sccSize++] = root;
+            onStack[root] = true;
+
+            while (depth > 0) {
+                int v = callStack[depth - 1];
+                if (nextEdge[v] < offsets[v + 1]) {
+                    int w = targets[nextEdge[v]++];
+                    if (discovery[w] == -1) {
+                        discovery[w] = lowLink[w] = counter++;
+                        nextEdge[w] = offsets[w];
+                        sccStack[sccSize++] = w;
+                        onStack[w] = true;
+                        callStack[depth++] = w;
+                    } else if (onStack[w]) {
+                        lowLink[v] = Math.min(lowLink[v], discovery[w]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (lowLink[v] == discovery[v]) { // v is the root of a component
+                    int w;
+                    do {
+                        w = sccStack[--sccSize];
+                        onStack[w] = false;
+                        component[w] = componentCount;
+                    } while (w != v);
+                    componentCount++;
+                }
+                if (depth > 0) {
+                    int parent = callStack[depth - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+                }
+            }
+        }
+        return componentCount;
+    }
+
+    /**
+     * Un parcours en profondeur du DAG en post-ordre : post[c] est le rang de c, low[c] le plus
+     * petit rang de ses descendants. Si c atteint d, [low[d], post[d]] est inclus dans [low[c], post[c]].
+     * 'reversed' inverse l'ordre des racines et des enfants pour obtenir un étiquetage indépendant.
+     */
+    private static void label(int count, int[] dagOffsets, int[] dagTargets, boolean reversed, int[] low, int[] post) {
+        boolean[] visited = new boolean[count];
+        int[] callStack = new int[count];
+        int[] nextEdge = new int[count];
+        int rank = 0;
+        for (int i = 0; i < count; i++) {
+            // Forward labeling starts from the highest numbers, i.e. the sources of the DAG
+            int root = reversed ? i : count - 1 - i;
+            if (visited[root]) continue;
+            int depth = 0;
+            callStack[depth++] = root;
+            visited[root] = true;
+            nextEdge[root] = 0;
+            low[root] = Integer.MAX_VALUE;
+            while (depth > 0) {
+                int c = callStack[depth - 1];
+                int degree = dagOffsets[c + 1] - dagOffsets[c];
+                if (nextEdge[c] < degree) {
+                    int k = nextEdge[c]++;
+                    int d = dagTargets[reversed ? dagOffsets[c + 1] - 1 - k : dagOffsets[c] + k];
+                    if (!visited[d]) {
+                        visited[d] = true;
+                        nextEdge[d] = 0;
+                        low[d] = Integer.MAX_VALUE;
+                        callStack[depth++] = d;
+                    } else {
+                        low[c] = Math.min(low[c], low[d]);
+                    }
+                    continue;
+                }
+                depth--;
+                post[c] = rank++;
+                low[c] = Math.min(low[c], post[c]);
+                if (depth > 0) {
+                    int parent = callStack[depth - 1];
+                    low[parent] = Math.min(low[parent], low[c]);
+                }
+            }
+        }
+    }
+
+    /**
+     * false si 'target' est prouvé inaccessible depuis 'source' (indices de la vue CSR) ;
+     * true si les deux sont dans la même composante ou si l'index ne peut pas conclure.
+     */
+    public boolean mayReach(int source, int target) {
+        int from = component[source];
+        int to = component[target];
+        if (from == to) return true;
+        if (from < to) return false; // Edges only go from higher to lower component numbers
+        for (int l = 0; l < LABEL_COUNT; l++) {
+            if (low[l][to] < low[l][from] || post[l][to] > post[l][from]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * true si les deux nœuds sont dans la même composante fortement connexe (accessibilité mutuelle).
+     */
+    public boolean sameComponent(int a, int b) {
+        return component[a] == component[b];
+    }
+
+    public int componentOf(int node) {
+        return component[node];
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Nombre d'arcs du graphe condensé (arcs entre composantes, sans doublons).
+     */
+    public int getDagEdgeCount() {
+        return dagEdgeCount;
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+}
@@ -1,9 +1,47 @@
 package com.example.graphapp.strategy.path;
 
 import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
 import com.example.graphapp.model.Node;
 import com.example.graphapp.util.PathResult;
+import com.example.graphapp.util.SearchMonitor;
+
+import java.util.List;
 
 public interface ShortestPathStrategy {
     PathResult findShortestPath(Graph graph, Node startNode, Node endNode);
+
+    /**
+     * Variante annulable : les stratégies qui la redéfinissent consultent le moniteur dans leur
+     * boucle principale (CancellationException après annulation) et y publient leur progression.
+     * Par défaut, le calcul n'est pas interruptible.
+     */
+    default PathResult findShortestPath(Graph graph, Node startNode, Node endNode, SearchMonitor monitor) {
+        monitor.checkpoint();
+        return findShortestPath(graph, startNode, endNode);
+    }
+
+    /**
+     * Coût seul du plus court chemin (+infini si inaccessible). Par défaut, le chemin est calculé
+     * puis abandonné ; un index de distances peut répondre sans le reconstruire.
+     */
+    default double findDistance(Graph graph, Node startNode, Node endNode) {
+        return findShortestPath(graph, startNode, endNode).getCost();
+    }
+
+    /**
+     * Jusqu'à k chemins sans boucle, par coût croissant (algorithme de Yen, voir {@link KShortestPaths}).
+     * Le premier est un plus court chemin. Suppose des poids non négatifs.
+     */
+    default List<PathResult> findKShortestPaths(Graph graph, Node startNode, Node endNode, int k) {
+        GraphSnapshot snapshot = graph.snapshot();
+        return KShortestPaths.find(snapshot, snapshot.indexOf(startNode), snapshot.indexOf(endNode), k);
+    }
+
+    /**
+     * Nom identifiant la stratégie et sa configuration (clé de cache, journaux).
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.example.graphapp.util;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Résultats d'un lot de requêtes, dans l'ordre des requêtes, avec les temps agrégés.
+ */
+public final class BatchPathResult {
+    private final List<PathResult> results;
+    private final long wallTimeMs;   // Durée totale du lot
+    private final long computeTimeMs; // Somme des temps de calcul individuels (tous threads confondus)
+
+    public BatchPathResult(List<PathResult> results, long wallTimeMs, long computeTimeMs) {
+        this.results = Collections.unmodifiableList(results);
+        this.wallTimeMs = wallTimeMs;
+        this.computeTimeMs = computeTimeMs;
+    }
+
+    public List<PathResult> getResults() {
+        return results;
+    }
+
+    public PathResult get(int index) {
+        return results.get(index);
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public long getWallTimeMs() {
+        return wallTimeMs;
+    }
+
+    public long getComputeTimeMs() {
+        return computeTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchPathResult{" +
+               "queries=" + results.size() +
+               ", wallTimeMs=" + wallTimeMs +
+               ", computeTimeMs=" + computeTimeMs +
+               '}';
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.graphapp.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Tas d-aire indexé (min-heap) sur des éléments entiers 0..capacity-1 avec des clés double primitives.
+ * Chaque élément connaît sa position dans le tas, ce qui permet un vrai decrease-key en O(log_d n)
+ * au lieu du remove O(n) de {@link java.util.PriorityQueue}.
+ */
+public class IndexedDaryHeap {
+    private static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private int[] heap;      // position -> élément
+    private int[] position;  // élément -> position dans le tas, -1 si absent
+    private double[] keys;   // élément -> clé
+    private int size;
+
+    public IndexedDaryHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    public double getKey(int item) {
+        return keys[item];
+    }
+
+    public void insert(int item, double key) {
+        if (position[item] >= 0) {
+            throw new IllegalStateException("Item already in heap: " + item);
+        }
+        keys[item] = key;
+        heap[size] = item;
+        position[item] = size;
+        siftUp(size++);
+    }
+
+    public void decreaseKey(int item, double key) {
+        int pos = position[item];
+        if (pos < 0) {
+            throw new NoSuchElementException("Item not in heap: " + item);
+        }
+        if (key > keys[item]) {
+            throw new IllegalArgumentException("New key " + key + " is greater than current key " + keys[item]);
+        }
+        keys[item] = key;
+        siftUp(pos);
+    }
+
+    /**
+     * Insère l'élément, ou abaisse sa clé s'il est déjà présent avec une clé plus grande.
+     * @return true si le tas a été modifié.
+     */
+    public boolean insertOrDecrease(int item, double key) {
+        if (position[item] < 0) {
+            insert(item, key);
+            return true;
+        }
+        if (key < keys[item]) {
+            keys[item] = key;
+            siftUp(position[item]);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Modifie la clé d'un élément présent, à la hausse comme à la baisse.
+     */
+    public void changeKey(int item, double key) {
+        int pos = position[item];
+        if (pos < 0) {
+            throw new NoSuchElementException("Item not in heap: " + item);
+        }
+        double oldKey = keys[item];
+        keys[item] = key;
+        if (key < oldKey) siftUp(pos);
+        else if (key > oldKey) siftDown(pos);
+    }
+
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        return heap[0];
+    }
+
+    public double peekKey() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        return keys[heap[0]];
+    }
+
+    /**
+     * Retire et retourne l'élément de clé minimale.
+     */
+    public int poll() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Vide le tas en O(taille courante), sans réallouer.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Élément à la position 'index' du tas (0 <= index < size()), dans un ordre quelconque.
+     */
+    public int itemAt(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Heap index " + index + " >= size " + size);
+        return heap[index];
+    }
+
+    /**
+     * Recalcule la clé de chaque élément présent puis reconstruit le tas en O(taille courante).
+     */
+    public void rebuild(IntToDoubleFunction keyOf) {
+        for (int i = 0; i < size; i++) {
+            keys[heap[i]] = keyOf.applyAsDouble(heap[i]);
+        }
+        for (int pos = size / arity; pos >= 0; pos--) { // Bottom-up heapify from the last parent
+            if (pos < size) siftDown(pos);
+        }
+    }
+
+    public int capacity() {
+        return position.length;
+    }
+
+    /**
+     * Agrandit le tas pour accepter les éléments 0..capacity-1 (conserve le contenu).
+     */
+    public void ensureCapacity(int capacity) {
+        int oldCapacity = position.length;
+        if (capacity <= oldCapacity) return;
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        position = Arrays.copyOf(position, capacity);
+        Arrays.fill(position, oldCapacity, capacity, -1);
+    }
+
+    private void siftUp(int pos) {
+        int item = heap[pos];
+        double key = keys[item];
+        while (pos > 0) {
+            int parentPos = (pos - 1) / arity;
+            int parent = heap[parentPos];
+            if (keys[parent] <= key) break;
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = item;
+        position[item] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int item = heap[pos];
+        double key = keys[item];
+        while (true) {
+            int firstChild = pos * arity + 1;
+            if (firstChild >= size) break;
+            int lastChild = Math.min(firstChild + arity, size);
+            int bestPos = firstChild;
+            double bestKey = keys[heap[firstChild]];
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                double childKey = keys[heap[c]];
+                if (childKey < bestKey) {
+                    bestKey = childKey;
+                    bestPos = c;
+                }
+            }
+            if (bestKey >= key) break;
+            int child = heap[bestPos];
+            heap[pos] = child;
+            position[child] = pos;
+            pos = bestPos;
+        }
+        heap[pos] = item;
+        position[item] = pos;
+    }
+}
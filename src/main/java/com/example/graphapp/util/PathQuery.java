@@ -0,0 +1,45 @@
+package com.example.graphapp.util;
+
+import com.example.graphapp.model.Node;
+
+import java.util.Objects;
+
+/**
+ * Couple (départ, arrivée) d'une requête de plus court chemin, pour les traitements par lot.
+ */
+public final class PathQuery {
+    private final Node start;
+    private final Node end;
+
+    public PathQuery(Node start, Node end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public Node getStart() {
+        return start;
+    }
+
+    public Node getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PathQuery query = (PathQuery) o;
+        return Objects.equals(start, query.start) &&
+               Objects.equals(end, query.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return "PathQuery{" + (start != null ? start.getLabel() : "null") + " -> " + (end != null ? end.getLabel() : "null") + '}';
+    }
+}
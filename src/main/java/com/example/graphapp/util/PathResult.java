@@ -3,15 +3,30 @@ package com.example.graphapp.util;
 import com.example.graphapp.model.Node;
 import java.util.List;
 
-public class PathResult {
+/**
+ * Résultat immuable d'une recherche de chemin : il peut être partagé (cache, threads) sans copie.
+ */
+public final class PathResult {
     private final List<Node> path;
     private final double cost;
-    private long calculationTimeMs; // Temps de calcul en millisecondes
+    private final long calculationTimeMs; // Temps de calcul en millisecondes
+    private final double suboptimalityBound; // Coût au plus égal à cette valeur fois l'optimum ; 1 : optimal
+    private final boolean approximate; // Réponse d'un oracle de distances approchées (mode surcharge)
 
     public PathResult(List<Node> path, double cost, long calculationTimeMs) {
-        this.path = path;
+        this(path, cost, calculationTimeMs, 1.0);
+    }
+
+    public PathResult(List<Node> path, double cost, long calculationTimeMs, double suboptimalityBound) {
+        this(path, cost, calculationTimeMs, suboptimalityBound, false);
+    }
+
+    public PathResult(List<Node> path, double cost, long calculationTimeMs, double suboptimalityBound, boolean approximate) {
+        this.path = path != null ? List.copyOf(path) : null; // Copy: the caller may keep editing its list
         this.cost = cost;
         this.calculationTimeMs = calculationTimeMs;
+        this.suboptimalityBound = suboptimalityBound;
+        this.approximate = approximate;
     }
 
     public List<Node> getPath() {
@@ -26,8 +41,20 @@ public class PathResult {
         return calculationTimeMs;
     }
     
-    public void setCalculationTimeMs(long time) { // Permet au GraphManager de le définir après coup
-        this.calculationTimeMs = time;
+    public double getSuboptimalityBound() {
+        return suboptimalityBound;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    public boolean isOptimal() {
+        return suboptimalityBound <= 1.0 && !approximate;
+    }
+
+    public PathResult withCalculationTimeMs(long time) { // Permet au GraphManager de le définir après coup
+        return new PathResult(path, cost, time, suboptimalityBound, approximate);
     }
 
     @Override
@@ -36,6 +63,8 @@ public class PathResult {
                "path=" + (path != null ? path.stream().map(Node::getLabel).reduce((s1,s2) -> s1+"->"+s2).orElse("N/A") : "None") +
                ", cost=" + cost +
                ", timeMs=" + calculationTimeMs +
+               (isOptimal() ? "" : ", bound=" + suboptimalityBound) +
+               (approximate ? ", approximate" : "") +
                '}';
     }
 }
\ No newline at end of file
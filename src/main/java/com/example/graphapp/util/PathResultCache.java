@@ -0,0 +1,123 @@
+package com.example.graphapp.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache LRU borné des résultats de plus court chemin, clé (départ, arrivée, stratégie, version du graphe).
+ * L'accès est synchronisé : il peut être utilisé depuis plusieurs threads (requêtes par lot).
+ * Les {@link PathResult} étant immuables, les entrées sont partagées sans copie.
+ */
+public class PathResultCache {
+
+    /**
+     * Clé d'une entrée : identifiants des nœuds, nom de la stratégie et version du graphe.
+     */
+    public static final class Key {
+        private final int startId;
+        private final int endId;
+        private final String strategy;
+        private final long graphVersion;
+
+        public Key(int startId, int endId, String strategy, long graphVersion) {
+            this.startId = startId;
+            this.endId = endId;
+            this.strategy = strategy;
+            this.graphVersion = graphVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return startId == key.startId &&
+                   endId == key.endId &&
+                   graphVersion == key.graphVersion &&
+                   strategy.equals(key.strategy);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(startId, endId, strategy, graphVersion);
+        }
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<Key, PathResult> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PathResultCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        // accessOrder = true : l'itération va de l'entrée la moins récemment utilisée à la plus récente
+        this.entries = new LinkedHashMap<Key, PathResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PathResult> eldest) {
+                if (size() > PathResultCache.this.capacity) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Résultat en cache pour la clé, ou null (compté comme défaut de cache).
+     */
+    public synchronized PathResult get(Key key) {
+        PathResult result = entries.get(key);
+        if (result != null) hits.incrementAndGet();
+        else misses.incrementAndGet();
+        return result;
+    }
+
+    public synchronized void put(Key key, PathResult result) {
+        entries.put(key, result);
+    }
+
+    /**
+     * Vide le cache (appelé à chaque modification du graphe). Les compteurs sont conservés.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "PathResultCache{" +
+               "size=" + size() +
+               ", capacity=" + capacity +
+               ", hits=" + hits.get() +
+               ", misses=" + misses.get() +
+               ", evictions=" + evictions.get() +
+               '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.graphapp.util;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+
+/**
+ * Résultat d'une requête de zone (isochrone) : les nœuds atteignables depuis les sources pour un
+ * coût au plus égal au budget, par coût croissant. Tableaux primitifs parallèles indexés par rang :
+ * nodes[i] est un indice de la vue CSR, costs[i] son coût depuis la source la plus proche,
+ * parents[i] son prédécesseur dans l'arbre de recherche (-1 pour une source).
+ */
+public final class RangeResult {
+    private final GraphSnapshot snapshot;
+    private final double budget;
+    private final int[] nodes;
+    private final double[] costs;
+    private final int[] parents;
+    private final long calculationTimeMs;
+
+    public RangeResult(GraphSnapshot snapshot, double budget, int[] nodes, double[] costs, int[] parents,
+                       long calculationTimeMs) {
+        this.snapshot = snapshot;
+        this.budget = budget;
+        this.nodes = nodes;
+        this.costs = costs;
+        this.parents = parents;
+        this.calculationTimeMs = calculationTimeMs;
+    }
+
+    public static RangeResult empty(GraphSnapshot snapshot, double budget) {
+        return new RangeResult(snapshot, budget, new int[0], new double[0], new int[0], 0);
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public Node getNode(int rank) {
+        return snapshot.getNode(nodes[rank]);
+    }
+
+    public double getCost(int rank) {
+        return costs[rank];
+    }
+
+    // -1 pour une source
+    public Node getParent(int rank) {
+        return parents[rank] >= 0 ? snapshot.getNode(parents[rank]) : null;
+    }
+
+    // Tableaux partagés, à ne pas modifier
+    public int[] getNodeIndices() {
+        return nodes;
+    }
+
+    public double[] getCosts() {
+        return costs;
+    }
+
+    public int[] getParentIndices() {
+        return parents;
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public double getBudget() {
+        return budget;
+    }
+
+    public long getCalculationTimeMs() {
+        return calculationTimeMs;
+    }
+
+    public RangeResult withCalculationTimeMs(long time) {
+        return new RangeResult(snapshot, budget, nodes, costs, parents, time);
+    }
+
+    @Override
+    public String toString() {
+        return "RangeResult{" +
+               "budget=" + budget +
+               ", reached=" + nodes.length +
+               ", timeMs=" + calculationTimeMs +
+               '}';
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.graphapp.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Suivi d'une recherche en cours : annulation coopérative, progression et échéance.
+ * Les stratégies appellent {@link #checkpoint()} ou {@link #progress(double)} dans leurs boucles
+ * principales ; après {@link #cancel()}, ces appels lèvent une {@link CancellationException}.
+ * L'échéance ({@link #setDeadline(long)}) n'interrompt rien : les recherches anytime la consultent
+ * pour rendre leur meilleure solution à temps, les recherches exactes l'ignorent.
+ */
+public class SearchMonitor {
+    /** Moniteur sans effet, pour les appels synchrones. */
+    public static final SearchMonitor NONE = new SearchMonitor(null) {
+        @Override
+        public void cancel() {
+            // Shared instance: never cancelled
+        }
+
+        @Override
+        public void setDeadline(long deadlineNanos) {
+            // Shared instance: no deadline
+        }
+    };
+
+    // Minimal progress step forwarded to the listener, to avoid flooding the UI thread
+    private static final double PROGRESS_STEP = 0.01;
+
+    private final DoubleConsumer progressListener;
+    private volatile boolean cancelled;
+    private volatile double progress;
+    private volatile long deadlineNanos = Long.MAX_VALUE; // Valeur de System.nanoTime(), MAX_VALUE : aucune
+    private double lastReported = -1.0;
+
+    public SearchMonitor() {
+        this(null);
+    }
+
+    /**
+     * @param progressListener reçoit la progression (0 à 1) depuis le thread de calcul ; peut être null.
+     */
+    public SearchMonitor(DoubleConsumer progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Lève une CancellationException si la recherche a été annulée.
+     */
+    public void checkpoint() {
+        if (cancelled) {
+            throw new CancellationException("Path search cancelled");
+        }
+    }
+
+    /**
+     * Point d'annulation qui publie aussi la progression estimée (bornée à [0, 1]).
+     */
+    public void progress(double fraction) {
+        checkpoint();
+        double clamped = Math.max(0.0, Math.min(1.0, fraction));
+        progress = clamped;
+        if (progressListener != null && (clamped - lastReported >= PROGRESS_STEP || clamped == 1.0 && lastReported < 1.0)) {
+            lastReported = clamped;
+            progressListener.accept(clamped);
+        }
+    }
+
+    /**
+     * Échéance souhaitée, en valeur de {@link System#nanoTime()}.
+     */
+    public void setDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public long getDeadline() {
+        return deadlineNanos;
+    }
+
+    public boolean isPastDeadline() {
+        return deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public double getProgress() {
+        return progress;
+    }
+}
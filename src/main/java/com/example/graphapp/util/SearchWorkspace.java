@@ -0,0 +1,144 @@
+package com.example.graphapp.util;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tableaux de travail d'une recherche (distances, prédécesseurs, estimations, ensemble fermé, tas),
+ * réutilisés d'une requête à l'autre. Chaque case est estampillée par la génération de la recherche
+ * qui l'a écrite : passer à la recherche suivante se fait en O(1) en incrémentant la génération,
+ * sans effacer les tableaux. Deux espaces par thread (FORWARD, BACKWARD) pour les recherches
+ * bidirectionnelles ; les requêtes exécutées en parallèle ne partagent rien.
+ */
+public final class SearchWorkspace {
+    public static final int FORWARD = 0;
+    public static final int BACKWARD = 1;
+
+    private static final ThreadLocal<SearchWorkspace[]> PER_THREAD =
+            ThreadLocal.withInitial(() -> new SearchWorkspace[] {new SearchWorkspace(), new SearchWorkspace()});
+
+    private int generation;  // Dernière valeur attribuée à epoch ou closedEpoch : aucune estampille n'est réutilisée
+    private int epoch;
+    private int closedEpoch;
+    private int[] stamps = new int[0];       // stamps[v] == epoch : v atteint par la recherche courante
+    private int[] closedStamps = new int[0]; // closedStamps[v] == closedEpoch : v fermé
+    private double[] distances = new double[0];
+    private double[] estimates = new double[0];
+    private int[] parents = new int[0];
+    private final IndexedDaryHeap heap = new IndexedDaryHeap(0);
+
+    private SearchWorkspace() {
+    }
+
+    /**
+     * Espace de travail FORWARD du thread courant, prêt pour un graphe de 'nodeCount' nœuds.
+     */
+    public static SearchWorkspace acquire(int nodeCount) {
+        return acquire(nodeCount, FORWARD);
+    }
+
+    /**
+     * Espace de travail du thread courant pour la direction donnée, vidé en O(1) :
+     * aucun nœud atteint ni fermé, tas vide.
+     * Ne pas l'utiliser pour deux recherches imbriquées sur le même thread.
+     */
+    public static SearchWorkspace acquire(int nodeCount, int slot) {
+        SearchWorkspace workspace = PER_THREAD.get()[slot];
+        workspace.prepare(nodeCount);
+        return workspace;
+    }
+
+    private void prepare(int nodeCount) {
+        if (stamps.length < nodeCount) {
+            int capacity = Math.max(nodeCount, stamps.length + (stamps.length >> 1));
+            stamps = new int[capacity];
+            closedStamps = new int[capacity];
+            distances = new double[capacity];
+            estimates = new double[capacity];
+            parents = new int[capacity];
+            generation = 0;
+        }
+        epoch = nextGeneration();
+        closedEpoch = nextGeneration();
+        heap.ensureCapacity(nodeCount);
+        heap.clear(); // O(entries left by the previous search)
+    }
+
+    private int nextGeneration() {
+        if (generation == Integer.MAX_VALUE - 1) { // Wrap-around: the only full pass over the arrays
+            for (int v = 0; v < stamps.length; v++) {
+                stamps[v] = stamps[v] == epoch ? 1 : 0; // Keeps the nodes reached by the current search
+            }
+            Arrays.fill(closedStamps, 0);
+            epoch = 1;
+            generation = 1;
+        }
+        return ++generation;
+    }
+
+    public boolean isReached(int node) {
+        return stamps[node] == epoch;
+    }
+
+    // +infini si le nœud n'a pas été atteint par la recherche courante
+    public double distance(int node) {
+        return stamps[node] == epoch ? distances[node] : Double.POSITIVE_INFINITY;
+    }
+
+    // Prédécesseur (ou toute autre donnée entière, p. ex. un indice d'arc), -1 si non atteint
+    public int parent(int node) {
+        return stamps[node] == epoch ? parents[node] : -1;
+    }
+
+    public void reach(int node, double distance, int parent) {
+        stamps[node] = epoch;
+        distances[node] = distance;
+        parents[node] = parent;
+    }
+
+    // Valide uniquement pour un nœud atteint
+    public double estimate(int node) {
+        return estimates[node];
+    }
+
+    public void setEstimate(int node, double estimate) {
+        estimates[node] = estimate;
+    }
+
+    public boolean isClosed(int node) {
+        return closedStamps[node] == closedEpoch;
+    }
+
+    public void close(int node) {
+        closedStamps[node] = closedEpoch;
+    }
+
+    /**
+     * Rouvre tous les nœuds fermés en O(1), sans toucher aux distances ni au tas
+     * (nouvelle itération d'une recherche anytime).
+     */
+    public void reopenAll() {
+        closedEpoch = nextGeneration();
+    }
+
+    public IndexedDaryHeap getHeap() {
+        return heap;
+    }
+
+    /**
+     * Chemin de la racine de la recherche jusqu'à 'target' en suivant les prédécesseurs.
+     */
+    public List<Node> pathTo(GraphSnapshot snapshot, int target) {
+        List<Node> path = new ArrayList<>();
+        for (int current = target; current != -1; current = parent(current)) {
+            path.add(snapshot.getNode(current));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
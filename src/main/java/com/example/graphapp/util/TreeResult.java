@@ -0,0 +1,80 @@
+package com.example.graphapp.util;
+
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+
+/**
+ * Arbre complet des plus courts chemins depuis une source, avec la vue CSR qui indexe ses tableaux :
+ * distances[v] (+infini si inaccessible) et parents[v] (-1 pour la source et les nœuds inaccessibles).
+ */
+public final class TreeResult {
+    private final GraphSnapshot snapshot;
+    private final int source;
+    private final double[] distances;
+    private final int[] parents;
+    private final long calculationTimeMs;
+
+    public TreeResult(GraphSnapshot snapshot, int source, double[] distances, int[] parents, long calculationTimeMs) {
+        this.snapshot = snapshot;
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+        this.calculationTimeMs = calculationTimeMs;
+    }
+
+    public Node getSource() {
+        return snapshot.getNode(source);
+    }
+
+    // +infini si 'target' est inaccessible ou absent de cette version du graphe
+    public double distanceTo(Node target) {
+        int index = snapshot.indexOf(target);
+        return index >= 0 ? distances[index] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Chemin de la source vers 'target' dans l'arbre ; chemin null et coût infini si inaccessible.
+     */
+    public PathResult pathTo(Node target) {
+        int index = snapshot.indexOf(target);
+        if (index < 0 || distances[index] == Double.POSITIVE_INFINITY) {
+            return new PathResult(null, Double.POSITIVE_INFINITY, calculationTimeMs);
+        }
+        return new PathResult(snapshot.buildPath(parents, index), distances[index], calculationTimeMs);
+    }
+
+    // Nombre de nœuds atteints, source comprise
+    public int getReachedCount() {
+        int count = 0;
+        for (double distance : distances) {
+            if (distance != Double.POSITIVE_INFINITY) count++;
+        }
+        return count;
+    }
+
+    // Tableaux partagés, à ne pas modifier
+    public double[] getDistances() {
+        return distances;
+    }
+
+    public int[] getParentIndices() {
+        return parents;
+    }
+
+    public GraphSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getCalculationTimeMs() {
+        return calculationTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        return "TreeResult{" +
+               "source=" + getSource().getLabel() +
+               ", reached=" + getReachedCount() +
+               ", timeMs=" + calculationTimeMs +
+               '}';
+    }
+}
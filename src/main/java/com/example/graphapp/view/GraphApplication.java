@@ -108,7 +108,7 @@ public class GraphApplication extends Application {
 
         Label algoLabel = new Label("Algorithme:");
         ComboBox<String> algoComboBox = new ComboBox<>();
-        algoComboBox.getItems().addAll("Dijkstra", "Bellman-Ford", "Floyd-Warshall", "A*", "BFS");
+        algoComboBox.getItems().addAll("Dijkstra", "Bellman-Ford", "Bellman-Ford (parallel)", "Floyd-Warshall", "Johnson", "A*", "A* (ALT)", "A* (Anytime)", "BFS", "Bidirectional Dijkstra", "Contraction Hierarchies", "Delta-stepping", "Auto");
         algoComboBox.setValue("Dijkstra");
         algoComboBox.setOnAction(e -> {
             uiController.changeAlgorithm(algoComboBox.getValue());
@@ -138,7 +138,22 @@ public class GraphApplication extends Application {
             uiController.clearGraph();
             logArea.appendText("Graphe effacé.\n");
         });
-        HBox actionBox = new HBox(10, calculatePathButton, clearGraphButton);
+
+        Button reachableAreaButton = new Button("Zone Atteignable");
+        reachableAreaButton.setTooltip(new Tooltip("Met en évidence les nœuds atteignables depuis le nœud de départ pour un coût maximal.\nSans nœud de départ sélectionné, efface la zone affichée."));
+        reachableAreaButton.setOnAction(e -> uiController.showReachableArea());
+
+        // Progression du calcul de chemin, exécuté hors du thread JavaFX
+        ProgressBar pathProgressBar = new ProgressBar(0);
+        pathProgressBar.setPrefWidth(150);
+        Button cancelPathButton = new Button("Annuler");
+        cancelPathButton.setTooltip(new Tooltip("Interrompt le calcul de chemin en cours."));
+        cancelPathButton.setOnAction(e -> {
+            uiController.cancelPathCalculation();
+            logArea.appendText("Calcul du chemin annulé.\n");
+        });
+        uiController.setPathProgressControls(pathProgressBar, cancelPathButton);
+        HBox actionBox = new HBox(10, calculatePathButton, reachableAreaButton, clearGraphButton, pathProgressBar, cancelPathButton);
 
         controlPanel.getChildren().addAll(modeBox, algoBox, logStrategyBox, actionBox);
         return controlPanel;
@@ -8,6 +8,7 @@ import com.example.graphapp.model.Node;
 import com.example.graphapp.observer.Observer;
 import com.example.graphapp.observer.Subject;
 import com.example.graphapp.singleton.GraphManager;
+import com.example.graphapp.util.RangeResult;
 
 import javafx.application.Platform;
 import javafx.scene.canvas.Canvas;
@@ -16,7 +17,9 @@ import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 // import java.util.stream.Collectors; // Pas utilisé directement ici
 
 public class GraphCanvas extends Canvas implements Observer {
@@ -154,11 +157,28 @@ public class GraphCanvas extends Canvas implements Observer {
         Graph graph = graphManager.getGraph();
         List<Node> highlightedPathNodes = graphManager.getLastCalculatedPath();
 
+        // Zone (isochrone) : coût de chaque nœud atteint et arc par lequel il l'a été
+        Map<Node, Double> rangeCosts = new HashMap<>();
+        Map<Node, Node> rangeParents = new HashMap<>();
+        RangeResult range = graphManager.getLastRangeResult();
+        if (range != null) {
+            for (int i = 0; i < range.size(); i++) {
+                rangeCosts.put(range.getNode(i), range.getCost(i));
+                Node parent = range.getParent(i);
+                if (parent != null) {
+                    rangeParents.put(range.getNode(i), parent);
+                }
+            }
+        }
+
         List<GraphElementView> viewsToDraw = new ArrayList<>();
 
         // Arcs
         for (Edge edge : graph.getEdges()) {
             GraphElementView edgeView = new EdgeView(edge);
+            if (edge.getSource().equals(rangeParents.get(edge.getTarget()))) {
+                edgeView = new HighlightDecorator(edgeView, Color.GOLD);
+            }
             if (highlightedPathNodes != null && highlightedPathNodes.size() > 1) {
                 for (int i = 0; i < highlightedPathNodes.size() - 1; i++) {
                     if (edge.getSource().equals(highlightedPathNodes.get(i)) &&
@@ -176,6 +196,13 @@ public class GraphCanvas extends Canvas implements Observer {
         for (Node node : graph.getNodes()) {
             GraphElementView nodeView = new NodeView(node); // Vue de base
 
+            // Décorateurs pour la zone : contour et coût affiché sous le nœud
+            Double rangeCost = rangeCosts.get(node);
+            if (rangeCost != null) {
+                nodeView = new HighlightDecorator(nodeView, Color.GOLD);
+                nodeView = new LabelDecorator(nodeView, String.format("%.1f", rangeCost), Color.DARKGOLDENROD, 0, NodeView.RADIUS + 12);
+            }
+
             // Décorateur pour le chemin
             if (highlightedPathNodes != null && highlightedPathNodes.contains(node)) {
                 nodeView = new HighlightDecorator(nodeView, Color.LAWNGREEN);
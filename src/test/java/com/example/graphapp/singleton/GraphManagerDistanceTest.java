@@ -0,0 +1,78 @@
+package com.example.graphapp.singleton;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.strategy.path.DijkstraStrategy;
+import com.example.graphapp.strategy.path.HubLabels;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * findDistance : réponses exactes pendant que les étiquettes se construisent en arrière-plan,
+ * puis depuis les étiquettes de la version courante, dans l'ordre de hubs choisi.
+ */
+class GraphManagerDistanceTest {
+    private static final long BUILD_TIMEOUT_MS = 30_000;
+
+    @Test
+    void answersExactlyBeforeAndAfterTheBackgroundBuild() throws InterruptedException {
+        Random random = new Random(1);
+        List<Node> nodes = new ArrayList<>();
+        Graph graph = new Graph();
+        for (int i = 0; i < 200; i++) {
+            Node node = new Node("d" + i, 0, 0);
+            nodes.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < 700; i++) {
+            Node from = nodes.get(random.nextInt(nodes.size()));
+            Node to = nodes.get(random.nextInt(nodes.size()));
+            if (!from.equals(to)) graph.addEdge(new Edge(from, to, random.nextInt(20)));
+        }
+        GraphManager manager = GraphManager.getInstance();
+        manager.setGraph(graph);
+        manager.setCurrentPathStrategy(new DijkstraStrategy());
+
+        for (HubLabels.Order order : HubLabels.Order.values()) {
+            manager.setHubLabelOrder(order);
+            for (int update = 0; update < 3; update++) {
+                assertDistances(manager, graph, nodes, random, order + ", update " + update); // Fallback or stale labels
+                HubLabels labels = awaitLabels(manager, graph.snapshot(), order);
+                assertEquals(order, labels.getOrder());
+                assertDistances(manager, graph, nodes, random, order + ", labels of update " + update);
+
+                List<Edge> edges = graph.getEdges();
+                edges.get(random.nextInt(edges.size())).setWeight(random.nextInt(20)); // Labels now stale
+            }
+        }
+    }
+
+    private static HubLabels awaitLabels(GraphManager manager, GraphSnapshot snapshot, HubLabels.Order order)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + BUILD_TIMEOUT_MS;
+        while (true) {
+            HubLabels labels = manager.getHubLabels();
+            if (labels != null && labels.getSnapshot() == snapshot && labels.getOrder() == order) return labels;
+            assertTrue(System.currentTimeMillis() < deadline, "hub labels not built in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void assertDistances(GraphManager manager, Graph graph, List<Node> nodes, Random random, String context) {
+        DijkstraStrategy dijkstra = new DijkstraStrategy();
+        for (int q = 0; q < 100; q++) {
+            Node start = nodes.get(random.nextInt(nodes.size()));
+            Node end = nodes.get(random.nextInt(nodes.size()));
+            assertEquals(dijkstra.findShortestPath(graph, start, end).getCost(), manager.findDistance(start, end), 1e-9,
+                    context + ", " + start.getLabel() + " -> " + end.getLabel());
+        }
+    }
+}
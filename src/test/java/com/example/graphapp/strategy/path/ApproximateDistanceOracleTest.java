@@ -0,0 +1,90 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.util.PathResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Réponses de l'oracle (chemins reconstruits sur les arcs serrés, étirement certifié) comparées
+ * aux distances exactes de Dijkstra.
+ */
+class ApproximateDistanceOracleTest {
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void answersAreRealPathsWithinTheirCertifiedStretch() {
+        Random random = new Random(1);
+        for (int round = 0; round < 6; round++) {
+            // Zero weights give ties (and zero-weight cycles) among the tight edges
+            Graph graph = round % 3 == 2 ? TestGraphs.grid(random, 20, 10)
+                    : TestGraphs.random(random, 300, 600 + round * 500, round % 2, 20);
+            GraphSnapshot snapshot = graph.snapshot();
+            for (double stretchBound : new double[] {1.0, 1.5, 3.0, 100.0}) {
+                ApproximateDistanceOracle oracle = ApproximateDistanceOracle.build(snapshot, 8, stretchBound);
+                int answered = crossCheck(graph, snapshot, oracle, random, "round " + round + ", stretch " + stretchBound);
+                if (stretchBound == 100.0 && round % 3 == 2) {
+                    assertTrue(answered > 0, "a loose bound on a grid answers queries");
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsNegativeWeightsAndBoundsBelowOne() {
+        Random random = new Random(2);
+        GraphSnapshot positive = TestGraphs.random(random, 30, 90, 1, 5).snapshot();
+        assertThrows(IllegalArgumentException.class, () -> ApproximateDistanceOracle.build(positive, 4, 0.9));
+        GraphSnapshot negative = TestGraphs.withPotentials(random, 30, 90, 5, 10).snapshot();
+        if (negative.hasNegativeWeights()) {
+            assertThrows(IllegalArgumentException.class, () -> ApproximateDistanceOracle.build(negative, 4, 2.0));
+        }
+    }
+
+    // Returns the number of queries the oracle answered
+    private static int crossCheck(Graph graph, GraphSnapshot snapshot, ApproximateDistanceOracle oracle, Random random,
+                                  String context) {
+        int answered = 0;
+        for (int q = 0; q < 30; q++) {
+            int source = random.nextInt(snapshot.getNodeCount());
+            double[] exact = DijkstraStrategy.shortestDistances(snapshot, source, false);
+            for (int i = 0; i < 20; i++) {
+                int target = random.nextInt(snapshot.getNodeCount());
+                String pair = context + ", " + source + " -> " + target;
+                double distance = exact[target];
+                double estimate = oracle.estimate(source, target);
+                assertTrue(estimate >= distance - EPSILON, pair + ": estimate below the distance");
+                if (distance > 0 && distance < Double.POSITIVE_INFINITY && estimate < Double.POSITIVE_INFINITY) {
+                    assertTrue(oracle.certifiedStretch(source, target) >= estimate / distance - EPSILON, pair);
+                }
+
+                PathResult result = oracle.query(source, target);
+                if (result == null) continue;
+                answered++;
+                assertTrue(result.isApproximate(), pair);
+                if (result.getPath() == null) { // Proven unreachable
+                    assertEquals(Double.POSITIVE_INFINITY, distance, pair);
+                    continue;
+                }
+                double cost = TestGraphs.pathCost(graph, result.getPath(), snapshot.getNode(source), snapshot.getNode(target), pair);
+                assertEquals(cost, result.getCost(), EPSILON, pair + ": reported cost");
+                assertEquals(result.getPath().size(), result.getPath().stream().distinct().count(), pair + ": loop");
+                assertTrue(cost >= distance - EPSILON, pair + ": shorter than the distance");
+                assertTrue(result.getSuboptimalityBound() <= oracle.getStretchBound() + EPSILON, pair + ": bound above the oracle's");
+                if (distance > 0) {
+                    assertTrue(cost / distance <= result.getSuboptimalityBound() + EPSILON, pair + ": stretch above its bound");
+                } else {
+                    assertEquals(0.0, cost, EPSILON, pair);
+                }
+            }
+        }
+        return answered;
+    }
+}
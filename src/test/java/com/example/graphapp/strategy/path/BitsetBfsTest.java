@@ -0,0 +1,164 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.PathResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Parcours à direction optimisée (descendant, ascendant, parallèle) comparé à Dijkstra en poids unitaires.
+ */
+class BitsetBfsTest {
+
+    @Test
+    void bfsStrategyMatchesDijkstraOnUnitWeights() {
+        Random random = new Random(1);
+        DijkstraStrategy dijkstra = new DijkstraStrategy();
+        for (int round = 0; round < 5; round++) {
+            Graph graph = TestGraphs.random(random, 200, round * 300 + 150, 1, 1);
+            BFSStrategy bfs = new BFSStrategy();
+            for (int q = 0; q < 200; q++) {
+                Node start = TestGraphs.randomNode(graph, random);
+                Node end = TestGraphs.randomNode(graph, random);
+                double expected = dijkstra.findShortestPath(graph, start, end).getCost();
+                TestGraphs.assertPath(graph, bfs.findShortestPath(graph, start, end), start, end, expected,
+                        "round " + round + ", " + start.getLabel() + " -> " + end.getLabel());
+            }
+        }
+    }
+
+    @Test
+    void fullTraversalsMatchDijkstraHopCounts() {
+        Random random = new Random(2);
+        // Large enough for bottom-up levels and parallel top-down steps (frontier edges >= 16 384)
+        Graph graph = TestGraphs.random(random, 24_000, 100_000, 1, 1);
+        GraphSnapshot snapshot = graph.snapshot();
+        for (boolean parallel : new boolean[] {false, true}) {
+            BitsetBfs bfs = new BitsetBfs(snapshot, parallel);
+            for (int q = 0; q < 3; q++) {
+                int source = random.nextInt(snapshot.getNodeCount());
+                double[] expected = DijkstraStrategy.shortestDistances(snapshot, source, false);
+                assertTrue(bfs.run(source, -1));
+                assertTraversal(snapshot, bfs, source, expected, "parallel " + parallel + ", source " + source);
+            }
+        }
+    }
+
+    @Test
+    void earlyStopReachesTheTargetAtItsDepth() {
+        Random random = new Random(3);
+        Graph graph = TestGraphs.random(random, 2000, 5000, 1, 1);
+        GraphSnapshot snapshot = graph.snapshot();
+        BitsetBfs bfs = new BitsetBfs(snapshot, false);
+        for (int q = 0; q < 100; q++) {
+            int source = random.nextInt(snapshot.getNodeCount());
+            int target = random.nextInt(snapshot.getNodeCount());
+            double expected = DijkstraStrategy.shortestDistances(snapshot, source, false)[target];
+            boolean reached = bfs.run(source, target);
+            assertEquals(expected != Double.POSITIVE_INFINITY, reached);
+            if (reached) {
+                assertEquals((int) expected, bfs.getDepth(target));
+            }
+        }
+    }
+
+    @Test
+    void threadEngineFollowsSnapshotsOfEveryShape() {
+        Random random = new Random(4);
+        // Sizes around word boundaries, growing and shrinking; dense rounds go bottom-up
+        int[] sizes = {130, 64, 3000, 65, 1, 200, 3000};
+        for (int round = 0; round < sizes.length; round++) {
+            int nodes = sizes[round];
+            GraphSnapshot snapshot = TestGraphs.random(random, nodes, nodes * (round % 2 == 0 ? 8 : 2), 1, 1).snapshot();
+            for (int q = 0; q < 3; q++) {
+                int source = random.nextInt(nodes);
+                double[] expected = DijkstraStrategy.shortestDistances(snapshot, source, false);
+                BitsetBfs bfs = BitsetBfs.acquire(snapshot);
+                try {
+                    assertTrue(bfs.run(source, -1));
+                    assertTraversal(snapshot, bfs, source, expected, "round " + round + ", source " + source);
+                } finally {
+                    bfs.release();
+                }
+            }
+        }
+    }
+
+    @Test
+    void concurrentQueriesMatchDijkstra() throws Exception {
+        Random random = new Random(5);
+        Graph graph = TestGraphs.random(random, 3000, 12_000, 1, 1);
+        BFSStrategy bfs = new BFSStrategy();
+        DijkstraStrategy dijkstra = new DijkstraStrategy();
+        List<Node[]> queries = new ArrayList<>();
+        for (int q = 0; q < 400; q++) {
+            queries.add(new Node[] {TestGraphs.randomNode(graph, random), TestGraphs.randomNode(graph, random)});
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<PathResult>> results = new ArrayList<>();
+            for (Node[] query : queries) {
+                results.add(pool.submit(() -> bfs.findShortestPath(graph, query[0], query[1])));
+            }
+            for (int q = 0; q < queries.size(); q++) {
+                Node start = queries.get(q)[0];
+                Node end = queries.get(q)[1];
+                double expected = dijkstra.findShortestPath(graph, start, end).getCost();
+                TestGraphs.assertPath(graph, results.get(q).get(), start, end, expected,
+                        start.getLabel() + " -> " + end.getLabel());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void isolatedNodesAndSelfLoopsAreHandled() {
+        Graph graph = new Graph();
+        Node a = new Node("a", 0, 0);
+        Node b = new Node("b", 0, 0);
+        graph.addNode(a);
+        graph.addNode(b);
+        graph.addEdge(new Edge(a, a, 1));
+        BitsetBfs bfs = new BitsetBfs(graph.snapshot(), true);
+        int ia = graph.snapshot().indexOf(a);
+        int ib = graph.snapshot().indexOf(b);
+        assertTrue(bfs.run(ia, ia));
+        assertEquals(false, bfs.run(ia, ib));
+    }
+
+    private static void assertTraversal(GraphSnapshot snapshot, BitsetBfs bfs, int source, double[] expected, String context) {
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        int[] parents = bfs.getParents();
+        int visited = 0;
+        for (int v = 0; v < expected.length; v++) {
+            boolean reachable = expected[v] != Double.POSITIVE_INFINITY;
+            assertEquals(reachable, bfs.isVisited(v), context + ", node " + v);
+            if (!reachable) continue;
+            visited++;
+            assertEquals((int) expected[v], bfs.getDepth(v), context + ", depth of " + v);
+            if (v == source) continue;
+            // The parent is one level up and really has an edge to v
+            int parent = parents[v];
+            int child = v;
+            assertEquals(bfs.getDepth(v) - 1, bfs.getDepth(parent), context + ", parent of " + v);
+            assertTrue(Arrays.stream(targets, offsets[parent], offsets[parent + 1]).anyMatch(t -> t == child),
+                    context + ", edge " + parent + " -> " + v);
+        }
+        assertEquals(visited, bfs.getVisitedCount(), context);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.SearchMonitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Chemins de la hiérarchie de contraction (raccourcis dépliés, cœur non contracté) comparés à Dijkstra.
+ */
+class ContractionHierarchiesStrategyTest {
+    private final DijkstraStrategy dijkstra = new DijkstraStrategy();
+
+    @Test
+    void matchesDijkstraOnRandomGraphs() {
+        Random random = new Random(1);
+        for (int round = 0; round < 10; round++) {
+            // Dense enough rounds leave an uncontracted core
+            Graph graph = TestGraphs.random(random, 150, round < 5 ? 400 : 3000, 0, 20);
+            crossCheck(graph, new ContractionHierarchiesStrategy(), random, 200, "random round " + round);
+        }
+    }
+
+    @Test
+    void matchesDijkstraOnGrids() {
+        Random random = new Random(2);
+        Graph graph = TestGraphs.grid(random, 25, 10);
+        crossCheck(graph, new ContractionHierarchiesStrategy(), random, 300, "grid");
+    }
+
+    @Test
+    void followsGraphChanges() {
+        Random random = new Random(3);
+        Graph graph = TestGraphs.random(random, 100, 400, 1, 20);
+        ContractionHierarchiesStrategy strategy = new ContractionHierarchiesStrategy();
+        for (int update = 0; update < 5; update++) {
+            crossCheck(graph, strategy, random, 50, "update " + update);
+            Edge edge = graph.getEdges().get(random.nextInt(graph.getEdges().size()));
+            edge.setWeight(1 + random.nextInt(20));
+            graph.addEdge(new Edge(TestGraphs.randomNode(graph, random), TestGraphs.randomNode(graph, random), 1));
+        }
+    }
+
+    @Test
+    void cancelledFirstQueryDoesNotDiscardThePreprocessing() {
+        Random random = new Random(4);
+        Graph graph = TestGraphs.grid(random, 20, 10);
+        ContractionHierarchiesStrategy strategy = new ContractionHierarchiesStrategy();
+        SearchMonitor cancelled = new SearchMonitor();
+        cancelled.cancel();
+        Node start = TestGraphs.randomNode(graph, random);
+        Node end = TestGraphs.randomNode(graph, random);
+        assertThrows(CancellationException.class, () -> strategy.findShortestPath(graph, start, end, cancelled));
+        crossCheck(graph, strategy, random, 50, "after cancellation");
+    }
+
+    private void crossCheck(Graph graph, ShortestPathStrategy strategy, Random random, int queries, String context) {
+        for (int q = 0; q < queries; q++) {
+            Node start = TestGraphs.randomNode(graph, random);
+            Node end = TestGraphs.randomNode(graph, random);
+            double expected = dijkstra.findShortestPath(graph, start, end).getCost();
+            TestGraphs.assertPath(graph, strategy.findShortestPath(graph, start, end), start, end, expected,
+                    context + ", " + start.getLabel() + " -> " + end.getLabel());
+        }
+    }
+}
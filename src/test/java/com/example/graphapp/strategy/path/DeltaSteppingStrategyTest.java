@@ -0,0 +1,121 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.TreeResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Seaux, arcs légers et lourds et arrêt anticipé du delta-stepping, comparés à Dijkstra.
+ */
+class DeltaSteppingStrategyTest {
+    private final DijkstraStrategy dijkstra = new DijkstraStrategy();
+
+    @Test
+    void fullRunsMatchDijkstraForEveryBucketWidth() {
+        Random random = new Random(1);
+        // Buckets above the parallel threshold, zero weights, and weights far above delta
+        Graph graph = TestGraphs.random(random, 6000, 30_000, 0, 50);
+        GraphSnapshot snapshot = graph.snapshot();
+        for (double delta : new double[] {0.5, 3, 25, 1000}) {
+            DeltaStepping engine = new DeltaStepping(snapshot, delta);
+            for (int q = 0; q < 3; q++) {
+                int source = random.nextInt(snapshot.getNodeCount());
+                engine.run(source);
+                assertArrayEquals(DijkstraStrategy.shortestDistances(snapshot, source, false), engine.getDistances(),
+                        "delta " + delta + ", source " + source);
+            }
+        }
+    }
+
+    @Test
+    void pathsMatchDijkstra() {
+        Random random = new Random(2);
+        for (int round = 0; round < 6; round++) {
+            Graph graph = round % 2 == 0 ? TestGraphs.random(random, 300, 300 + round * 400, 0, 30)
+                    : TestGraphs.grid(random, 20, 10);
+            DeltaSteppingStrategy strategy = new DeltaSteppingStrategy();
+            for (int q = 0; q < 100; q++) {
+                Node start = TestGraphs.randomNode(graph, random);
+                Node end = TestGraphs.randomNode(graph, random);
+                double expected = dijkstra.findShortestPath(graph, start, end).getCost();
+                TestGraphs.assertPath(graph, strategy.findShortestPath(graph, start, end), start, end, expected,
+                        "round " + round + ", " + start.getLabel() + " -> " + end.getLabel());
+            }
+        }
+    }
+
+    @Test
+    void treeCarriesItsSnapshotDistancesAndPaths() {
+        Random random = new Random(3);
+        Graph graph = TestGraphs.random(random, 400, 1200, 1, 20);
+        DeltaSteppingStrategy strategy = new DeltaSteppingStrategy();
+        Node source = TestGraphs.randomNode(graph, random);
+        TreeResult tree = strategy.shortestPathTree(graph, source);
+
+        List<Node> nodes = new ArrayList<>(graph.getNodes());
+        graph.addNode(new Node("later", 0, 0)); // The tree keeps its own version
+        assertSame(source, tree.getSource());
+        assertEquals(nodes.size(), tree.getSnapshot().getNodeCount());
+        int reached = 0;
+        for (Node target : nodes) {
+            double expected = dijkstra.findShortestPath(graph, source, target).getCost();
+            assertEquals(expected, tree.distanceTo(target), 1e-9, target.getLabel());
+            TestGraphs.assertPath(graph, tree.pathTo(target), source, target, expected, target.getLabel());
+            if (expected != Double.POSITIVE_INFINITY) reached++;
+        }
+        assertEquals(reached, tree.getReachedCount());
+    }
+
+    @Test
+    void concurrentTreesMatchDijkstra() throws Exception {
+        Random random = new Random(4);
+        Graph graph = TestGraphs.random(random, 2000, 8000, 1, 20);
+        DeltaSteppingStrategy strategy = new DeltaSteppingStrategy();
+        List<Node> sources = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            sources.add(TestGraphs.randomNode(graph, random));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<TreeResult>> trees = new ArrayList<>();
+            for (Node source : sources) {
+                trees.add(pool.submit(() -> strategy.shortestPathTree(graph, source)));
+            }
+            GraphSnapshot snapshot = graph.snapshot();
+            for (int i = 0; i < sources.size(); i++) {
+                assertArrayEquals(DijkstraStrategy.shortestDistances(snapshot, snapshot.indexOf(sources.get(i)), false),
+                        trees.get(i).get().getDistances(), "source " + sources.get(i).getLabel());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void treeRejectsNegativeWeights() {
+        Graph graph = new Graph();
+        Node a = new Node("a", 0, 0);
+        Node b = new Node("b", 0, 0);
+        graph.addNode(a);
+        graph.addNode(b);
+        graph.addEdge(new Edge(a, b, -1));
+        DeltaSteppingStrategy strategy = new DeltaSteppingStrategy();
+        assertThrows(IllegalArgumentException.class, () -> strategy.shortestPathTree(graph, a));
+        assertEquals(-1.0, strategy.findShortestPath(graph, a, b).getCost()); // Paths fall back to Bellman-Ford
+    }
+}
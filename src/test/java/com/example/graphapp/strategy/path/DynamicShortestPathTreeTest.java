@@ -0,0 +1,140 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * L'arbre réparé de façon incrémentale doit donner les mêmes distances que Dijkstra recalculé.
+ */
+class DynamicShortestPathTreeTest {
+
+    @Test
+    void edgeAddedThenRemovedInTheSameBatchIsNotUsed() {
+        Graph graph = new Graph();
+        Node s = node(graph, "s");
+        Node u = node(graph, "u");
+        Node v = node(graph, "v");
+        graph.addEdge(new Edge(s, u, 1));
+        graph.addEdge(new Edge(s, v, 10));
+        DynamicShortestPathTree tree = new DynamicShortestPathTree(graph, s);
+        tree.refresh();
+
+        Edge shortcut = new Edge(u, v, 1);
+        graph.addEdge(shortcut);
+        graph.removeEdge(shortcut);
+
+        assertEquals(10.0, tree.distanceTo(v));
+        assertEquals(List.of(s, v), tree.pathTo(v).getPath());
+    }
+
+    @Test
+    void removalByAnEqualInstanceWithAnotherWeightCutsTheTreeEdge() {
+        Graph graph = new Graph();
+        Node n0 = node(graph, "n0");
+        Node n1 = node(graph, "n1");
+        Node n2 = node(graph, "n2");
+        graph.addEdge(new Edge(n0, n1, 1));
+        graph.addEdge(new Edge(n0, n2, 2));
+        DynamicShortestPathTree tree = new DynamicShortestPathTree(graph, n0);
+        tree.refresh();
+
+        graph.removeEdge(new Edge(n0, n2, 3)); // Equal to the stored edge (same endpoints)
+
+        assertEquals(Double.POSITIVE_INFINITY, tree.distanceTo(n2));
+    }
+
+    @Test
+    void matchesDijkstraAfterMixedBatches() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            Graph graph = new Graph();
+            List<Node> nodes = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                nodes.add(node(graph, "n" + i));
+            }
+            for (int i = 0; i < 60; i++) {
+                addRandomEdge(graph, nodes, random);
+            }
+            Node source = nodes.get(0);
+            DynamicShortestPathTree tree = new DynamicShortestPathTree(graph, source);
+            tree.refresh();
+
+            for (int batch = 0; batch < 30; batch++) {
+                int updates = 1 + random.nextInt(6);
+                for (int i = 0; i < updates; i++) {
+                    applyRandomUpdate(graph, nodes, random);
+                }
+                assertMatchesDijkstra(graph, tree, source, "round " + round + ", batch " + batch);
+            }
+        }
+    }
+
+    private static void applyRandomUpdate(Graph graph, List<Node> nodes, Random random) {
+        List<Edge> edges = graph.getEdges();
+        switch (random.nextInt(5)) {
+            case 0:
+                addRandomEdge(graph, nodes, random);
+                break;
+            case 1:
+                if (!edges.isEmpty()) {
+                    Edge edge = edges.get(random.nextInt(edges.size()));
+                    // Sometimes through an equal instance carrying another weight
+                    graph.removeEdge(random.nextBoolean() ? edge
+                            : new Edge(edge.getSource(), edge.getTarget(), edge.getWeight() + 1));
+                }
+                break;
+            case 2:
+                if (!edges.isEmpty()) {
+                    edges.get(random.nextInt(edges.size())).setWeight(1 + random.nextInt(20));
+                }
+                break;
+            case 3: {
+                // Added then removed (or re-weighted then removed) within the same batch
+                Edge edge = addRandomEdge(graph, nodes, random);
+                if (edge != null) {
+                    if (random.nextBoolean()) edge.setWeight(1);
+                    graph.removeEdge(edge);
+                }
+                break;
+            }
+            default:
+                if (random.nextInt(4) == 0 && nodes.size() > 2) {
+                    Node removed = nodes.remove(1 + random.nextInt(nodes.size() - 1));
+                    graph.removeNode(removed);
+                } else {
+                    nodes.add(node(graph, "m" + random.nextInt(1_000_000)));
+                }
+        }
+    }
+
+    private static Edge addRandomEdge(Graph graph, List<Node> nodes, Random random) {
+        Node from = nodes.get(random.nextInt(nodes.size()));
+        Node to = nodes.get(random.nextInt(nodes.size()));
+        if (from.equals(to) || graph.getOutgoingEdges(from).contains(new Edge(from, to, 0))) return null;
+        Edge edge = new Edge(from, to, 1 + random.nextInt(20));
+        graph.addEdge(edge);
+        return edge;
+    }
+
+    private static void assertMatchesDijkstra(Graph graph, DynamicShortestPathTree tree, Node source, String context) {
+        DijkstraStrategy dijkstra = new DijkstraStrategy();
+        for (Node target : graph.getNodes()) {
+            double expected = dijkstra.findShortestPath(graph, source, target).getCost();
+            assertEquals(expected, tree.distanceTo(target), 1e-9, context + ", node " + target.getLabel());
+        }
+    }
+
+    private static Node node(Graph graph, String label) {
+        Node node = new Node(label, 0, 0);
+        graph.addNode(node);
+        return node;
+    }
+}
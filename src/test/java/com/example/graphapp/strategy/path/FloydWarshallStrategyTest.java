@@ -0,0 +1,92 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Matrices par tuiles (tailles autour de la largeur des tuiles) et mises à jour incrémentales,
+ * comparées à Bellman-Ford, poids négatifs compris.
+ */
+class FloydWarshallStrategyTest {
+    private final BellmanFordStrategy bellmanFord = new BellmanFordStrategy();
+
+    @Test
+    void matchesBellmanFordAcrossTileBoundaries() {
+        Random random = new Random(1);
+        for (int nodes : new int[] {1, 2, 63, 64, 65, 130}) {
+            Graph graph = TestGraphs.withPotentials(random, nodes, nodes * 4, 10, 20);
+            crossCheck(graph, new FloydWarshallStrategy(), random, 150, nodes + " nodes");
+        }
+    }
+
+    @Test
+    void matchesDijkstraOnNonNegativeWeights() {
+        Random random = new Random(2);
+        Graph graph = TestGraphs.random(random, 100, 300, 0, 20);
+        crossCheck(graph, new FloydWarshallStrategy(), random, 300, "non-negative");
+    }
+
+    @Test
+    void zeroWeightCyclesKeepPathsFinite() {
+        Random random = new Random(4);
+        // Every cycle weighs 0: ties everywhere, but no negative cycle
+        Graph graph = TestGraphs.withPotentials(random, 130, 400, 0, 20);
+        crossCheck(graph, new FloydWarshallStrategy(), random, 300, "zero cycles");
+    }
+
+    @Test
+    void incrementalUpdatesMatchARecomputation() {
+        Random random = new Random(3);
+        Graph graph = TestGraphs.withPotentials(random, 80, 240, 10, 20);
+        FloydWarshallStrategy strategy = new FloydWarshallStrategy();
+        for (int batch = 0; batch < 10; batch++) {
+            crossCheck(graph, strategy, random, 40, "batch " + batch);
+            // Edge insertions and weight decreases are replayed; increases force a recomputation
+            List<Edge> edges = graph.getEdges();
+            Edge edge = edges.get(random.nextInt(edges.size()));
+            edge.setWeight(edge.getWeight() + (batch % 3 == 2 ? 5 : -1));
+            Node from = TestGraphs.randomNode(graph, random);
+            Node to = TestGraphs.randomNode(graph, random);
+            if (!from.equals(to)) graph.addEdge(new Edge(from, to, 5 + random.nextInt(10)));
+        }
+    }
+
+    @Test
+    void pathsThroughANegativeCycleHaveNoFiniteCost() {
+        Graph graph = new Graph();
+        Node a = node(graph, "a");
+        Node b = node(graph, "b");
+        Node c = node(graph, "c");
+        Node d = node(graph, "d");
+        graph.addEdge(new Edge(a, b, 1));
+        graph.addEdge(new Edge(b, c, -3));
+        graph.addEdge(new Edge(c, b, 1));
+        graph.addEdge(new Edge(c, d, 1));
+        FloydWarshallStrategy strategy = new FloydWarshallStrategy();
+        assertEquals(Double.NEGATIVE_INFINITY, strategy.findShortestPath(graph, a, d).getCost());
+        assertEquals(Double.POSITIVE_INFINITY, strategy.findShortestPath(graph, d, a).getCost());
+    }
+
+    private void crossCheck(Graph graph, ShortestPathStrategy strategy, Random random, int queries, String context) {
+        for (int q = 0; q < queries; q++) {
+            Node start = TestGraphs.randomNode(graph, random);
+            Node end = TestGraphs.randomNode(graph, random);
+            double expected = bellmanFord.findShortestPath(graph, start, end).getCost();
+            TestGraphs.assertPath(graph, strategy.findShortestPath(graph, start, end), start, end, expected,
+                    context + ", " + start.getLabel() + " -> " + end.getLabel());
+        }
+    }
+
+    private static Node node(Graph graph, String label) {
+        Node node = new Node(label, 0, 0);
+        graph.addNode(node);
+        return node;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.util.SearchMonitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Distances lues dans les étiquettes 2-hop (ordre par degré et ordre de contraction) comparées à Dijkstra.
+ */
+class HubLabelsTest {
+
+    @Test
+    void matchesDijkstraForBothOrders() {
+        Random random = new Random(1);
+        for (int round = 0; round < 6; round++) {
+            // Sparse rounds leave unreachable pairs; zero weights make pruning ties
+            Graph graph = round % 3 == 2 ? TestGraphs.grid(random, 15, 10)
+                    : TestGraphs.random(random, 150, 200 + round * 300, 0, 20);
+            GraphSnapshot snapshot = graph.snapshot();
+            for (HubLabels.Order order : HubLabels.Order.values()) {
+                HubLabels labels = HubLabels.build(snapshot, order, SearchMonitor.NONE);
+                assertEquals(order, labels.getOrder());
+                assertAllPairs(snapshot, labels, "round " + round + ", " + order);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNegativeWeights() {
+        Random random = new Random(2);
+        GraphSnapshot snapshot = TestGraphs.withPotentials(random, 20, 60, 5, 10).snapshot();
+        if (!snapshot.hasNegativeWeights()) return;
+        assertThrows(IllegalArgumentException.class, () -> HubLabels.build(snapshot));
+    }
+
+    private static void assertAllPairs(GraphSnapshot snapshot, HubLabels labels, String context) {
+        for (int s = 0; s < snapshot.getNodeCount(); s++) {
+            double[] expected = DijkstraStrategy.shortestDistances(snapshot, s, false);
+            for (int t = 0; t < snapshot.getNodeCount(); t++) {
+                assertEquals(expected[t], labels.distance(s, t), 1e-9, context + ", " + s + " -> " + t);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Repondération par potentiels et Dijkstra depuis chaque source, comparés à Bellman-Ford
+ * sur des graphes creux à poids négatifs.
+ */
+class JohnsonStrategyTest {
+    private final BellmanFordStrategy bellmanFord = new BellmanFordStrategy();
+
+    @Test
+    void matchesBellmanFordWithNegativeWeights() {
+        Random random = new Random(1);
+        for (int nodes : new int[] {1, 2, 10, 65, 150}) {
+            // Zero-cost base weights leave reweighted edges at exactly 0
+            Graph graph = TestGraphs.withPotentials(random, nodes, nodes * 3, nodes % 2 == 0 ? 0 : 10, 30);
+            crossCheck(graph, new JohnsonStrategy(), random, 200, nodes + " nodes");
+        }
+    }
+
+    @Test
+    void matchesBellmanFordWithFractionalWeights() {
+        Random random = new Random(2);
+        Graph graph = new Graph();
+        Node[] nodes = new Node[60];
+        double[] potentials = new double[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Node("f" + i, 0, 0);
+            graph.addNode(nodes[i]);
+            potentials[i] = random.nextInt(100) * 0.1; // Rounding noise in w + p(u) - p(v)
+        }
+        for (int i = 0; i < 200; i++) {
+            int u = random.nextInt(nodes.length);
+            int v = random.nextInt(nodes.length);
+            if (u != v) graph.addEdge(new Edge(nodes[u], nodes[v], random.nextInt(3) * 0.1 + potentials[u] - potentials[v]));
+        }
+        crossCheck(graph, new JohnsonStrategy(), random, 300, "fractional");
+    }
+
+    @Test
+    void followsGraphChanges() {
+        Random random = new Random(3);
+        Graph graph = TestGraphs.withPotentials(random, 80, 240, 10, 20);
+        JohnsonStrategy strategy = new JohnsonStrategy();
+        for (int batch = 0; batch < 10; batch++) {
+            crossCheck(graph, strategy, random, 40, "batch " + batch);
+            List<Edge> edges = graph.getEdges();
+            Edge edge = edges.get(random.nextInt(edges.size()));
+            edge.setWeight(edge.getWeight() + (batch % 3 == 2 ? 5 : -1));
+            Node from = TestGraphs.randomNode(graph, random);
+            Node to = TestGraphs.randomNode(graph, random);
+            if (!from.equals(to)) graph.addEdge(new Edge(from, to, 5 + random.nextInt(10)));
+        }
+    }
+
+    @Test
+    void negativeCycleFallsBackToFloydWarshall() {
+        Graph graph = new Graph();
+        Node a = node(graph, "a");
+        Node b = node(graph, "b");
+        Node c = node(graph, "c");
+        Node d = node(graph, "d");
+        graph.addEdge(new Edge(a, b, 1));
+        graph.addEdge(new Edge(b, c, -3));
+        graph.addEdge(new Edge(c, b, 1));
+        graph.addEdge(new Edge(c, d, 1));
+        JohnsonStrategy strategy = new JohnsonStrategy();
+        assertEquals(Double.NEGATIVE_INFINITY, strategy.findShortestPath(graph, a, d).getCost());
+        assertEquals(Double.POSITIVE_INFINITY, strategy.findShortestPath(graph, d, a).getCost());
+    }
+
+    private void crossCheck(Graph graph, ShortestPathStrategy strategy, Random random, int queries, String context) {
+        for (int q = 0; q < queries; q++) {
+            Node start = TestGraphs.randomNode(graph, random);
+            Node end = TestGraphs.randomNode(graph, random);
+            double expected = bellmanFord.findShortestPath(graph, start, end).getCost();
+            TestGraphs.assertPath(graph, strategy.findShortestPath(graph, start, end), start, end, expected,
+                    context + ", " + start.getLabel() + " -> " + end.getLabel());
+        }
+    }
+
+    private static Node node(Graph graph, String label) {
+        Node node = new Node(label, 0, 0);
+        graph.addNode(node);
+        return node;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.PathResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chemins de Yen (arbre inverse partagé, arcs bloqués au point de déviation) comparés à l'énumération
+ * exhaustive des chemins sans boucle sur de petits graphes, et à Dijkstra sur de plus grands.
+ */
+class KShortestPathsTest {
+
+    @Test
+    void matchesExhaustiveEnumerationOfSimplePaths() {
+        Random random = new Random(1);
+        for (int round = 0; round < 40; round++) {
+            // Weights from 0: plenty of equal-cost paths
+            Graph graph = TestGraphs.random(random, 8, 14 + round % 3 * 6, 0, 4);
+            GraphSnapshot snapshot = graph.snapshot();
+            for (int q = 0; q < 5; q++) {
+                int source = random.nextInt(snapshot.getNodeCount());
+                int target = random.nextInt(snapshot.getNodeCount());
+                List<Double> expected = simplePathCosts(snapshot, source, target);
+                // Asking for more paths than exist returns all of them
+                List<PathResult> paths = KShortestPaths.find(snapshot, source, target, expected.size() + 3);
+                String context = "round " + round + ", " + source + " -> " + target;
+                assertEquals(expected.size(), paths.size(), context);
+                assertValid(graph, paths, snapshot.getNode(source), snapshot.getNode(target), context);
+                for (int i = 0; i < paths.size(); i++) {
+                    assertEquals(expected.get(i), paths.get(i).getCost(), 1e-9, context + ", path " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void firstPathIsShortestOnLargerGraphs() {
+        Random random = new Random(2);
+        DijkstraStrategy dijkstra = new DijkstraStrategy();
+        for (int round = 0; round < 4; round++) {
+            Graph graph = round % 2 == 0 ? TestGraphs.random(random, 300, 1200, 1, 20) : TestGraphs.grid(random, 15, 10);
+            for (int q = 0; q < 20; q++) {
+                Node start = TestGraphs.randomNode(graph, random);
+                Node end = TestGraphs.randomNode(graph, random);
+                List<PathResult> paths = new DijkstraStrategy().findKShortestPaths(graph, start, end, 10);
+                double shortest = dijkstra.findShortestPath(graph, start, end).getCost();
+                String context = "round " + round + ", " + start.getLabel() + " -> " + end.getLabel();
+                if (shortest == Double.POSITIVE_INFINITY) {
+                    assertTrue(paths.isEmpty(), context);
+                    continue;
+                }
+                assertEquals(shortest, paths.get(0).getCost(), 1e-9, context);
+                assertValid(graph, paths, start, end, context);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNegativeWeights() {
+        Graph graph = new Graph();
+        Node a = new Node("a", 0, 0);
+        Node b = new Node("b", 0, 0);
+        graph.addNode(a);
+        graph.addNode(b);
+        graph.addEdge(new Edge(a, b, -1));
+        GraphSnapshot snapshot = graph.snapshot();
+        assertThrows(IllegalArgumentException.class, () -> KShortestPaths.find(snapshot, 0, 1, 2));
+    }
+
+    // Real, loopless, pairwise distinct paths with non-decreasing costs
+    private static void assertValid(Graph graph, List<PathResult> paths, Node start, Node end, String context) {
+        Set<List<Node>> distinct = new HashSet<>();
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < paths.size(); i++) {
+            PathResult result = paths.get(i);
+            String path = context + ", path " + i;
+            assertEquals(result.getCost(), TestGraphs.pathCost(graph, result.getPath(), start, end, path), 1e-9, path);
+            assertEquals(result.getPath().size(), new HashSet<>(result.getPath()).size(), path + ": loop");
+            assertTrue(distinct.add(result.getPath()), path + ": duplicate");
+            assertTrue(result.getCost() >= previous - 1e-9, path + ": cost decreases");
+            previous = result.getCost();
+        }
+    }
+
+    // Costs of every simple path, sorted (depth-first enumeration)
+    private static List<Double> simplePathCosts(GraphSnapshot snapshot, int source, int target) {
+        List<Double> costs = new ArrayList<>();
+        enumerate(snapshot, source, target, new boolean[snapshot.getNodeCount()], 0.0, costs);
+        costs.sort(null);
+        return costs;
+    }
+
+    private static void enumerate(GraphSnapshot snapshot, int u, int target, boolean[] onPath, double cost, List<Double> costs) {
+        if (u == target) {
+            costs.add(cost);
+            return;
+        }
+        onPath[u] = true;
+        int[] offsets = snapshot.getOffsets();
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+            int v = snapshot.getTargets()[e];
+            if (!onPath[v]) enumerate(snapshot, v, target, onPath, cost + snapshot.getWeights()[e], costs);
+        }
+        onPath[u] = false;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.GraphChange;
+import com.example.graphapp.model.GraphSnapshot;
+import com.example.graphapp.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Composantes et réponses « inaccessible » de l'index comparées à l'accessibilité calculée par Dijkstra.
+ */
+class ReachabilityIndexTest {
+
+    @Test
+    void neverRejectsAReachablePair() {
+        Random random = new Random(1);
+        for (int round = 0; round < 12; round++) {
+            // From sparse forests of small components to one giant component
+            Graph graph = TestGraphs.random(random, 120, 40 + round * 40, 1, 5);
+            assertMatchesDijkstra(graph.snapshot(), ReachabilityIndex.build(graph.snapshot()), "round " + round);
+        }
+    }
+
+    @Test
+    void rebaseKeepsTheIndexOnlyWhenComponentsCannotChange() {
+        Random random = new Random(2);
+        Graph graph = TestGraphs.random(random, 100, 180, 1, 5);
+        ReachabilityIndex index = ReachabilityIndex.build(graph.snapshot());
+        for (int step = 0; step < 60; step++) {
+            long version = index.getVersion();
+            boolean componentsKept = true;
+            switch (random.nextInt(4)) {
+                case 0: {
+                    Edge edge = graph.getEdges().get(random.nextInt(graph.getEdges().size()));
+                    edge.setWeight(1 + random.nextInt(5));
+                    break;
+                }
+                case 1: {
+                    Node from = TestGraphs.randomNode(graph, random);
+                    Node to = TestGraphs.randomNode(graph, random);
+                    GraphSnapshot before = index.getSnapshot();
+                    componentsKept = index.sameComponent(before.indexOf(from), before.indexOf(to));
+                    graph.addEdge(new Edge(from, to, 1));
+                    break;
+                }
+                case 2:
+                    graph.removeEdge(graph.getEdges().get(random.nextInt(graph.getEdges().size())));
+                    componentsKept = false;
+                    break;
+                default:
+                    graph.addNode(new Node("x" + step, 0, 0));
+                    componentsKept = false;
+            }
+            GraphSnapshot snapshot = graph.snapshot();
+            List<GraphChange> changes = graph.getChangesSince(version);
+            ReachabilityIndex rebased = index.rebase(snapshot, changes);
+            if (componentsKept || changes.isEmpty()) { // A duplicate edge is not added
+                assertNotNull(rebased, "step " + step);
+                assertTrue(rebased.getSnapshot() == snapshot);
+                index = rebased;
+            } else {
+                assertNull(rebased, "step " + step);
+                index = ReachabilityIndex.build(snapshot);
+            }
+            assertMatchesDijkstra(snapshot, index, "step " + step);
+        }
+        assertNull(index.rebase(graph.snapshot(), null)); // Change log no longer covers the gap
+    }
+
+    private static void assertMatchesDijkstra(GraphSnapshot snapshot, ReachabilityIndex index, String context) {
+        int n = snapshot.getNodeCount();
+        boolean[][] reaches = new boolean[n][];
+        for (int s = 0; s < n; s++) {
+            double[] distances = DijkstraStrategy.shortestDistances(snapshot, s, false);
+            reaches[s] = new boolean[n];
+            for (int t = 0; t < n; t++) {
+                reaches[s][t] = distances[t] != Double.POSITIVE_INFINITY;
+            }
+        }
+        for (int s = 0; s < n; s++) {
+            for (int t = 0; t < n; t++) {
+                String pair = context + ", " + s + " -> " + t;
+                if (reaches[s][t]) assertTrue(index.mayReach(s, t), pair);
+                assertEquals(reaches[s][t] && reaches[t][s], index.sameComponent(s, t), pair);
+                if (reaches[s][t] && !index.sameComponent(s, t)) {
+                    assertTrue(index.componentOf(s) > index.componentOf(t), pair); // Reverse topological numbering
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.graphapp.strategy.path;
+
+import com.example.graphapp.model.Edge;
+import com.example.graphapp.model.Graph;
+import com.example.graphapp.model.Node;
+import com.example.graphapp.util.PathResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Graphes aléatoires et vérifications de chemins partagés par les tests des stratégies.
+ */
+final class TestGraphs {
+
+    private TestGraphs() {
+    }
+
+    /**
+     * Graphe orienté aléatoire : 'edges' tirages d'arcs (doublons et boucles écartés), poids entiers
+     * dans [minWeight, maxWeight].
+     */
+    static Graph random(Random random, int nodes, int edges, int minWeight, int maxWeight) {
+        Graph graph = new Graph();
+        List<Node> list = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            Node node = new Node("n" + i, random.nextInt(1000), random.nextInt(1000));
+            list.add(node);
+            graph.addNode(node);
+        }
+        for (int i = 0; i < edges; i++) {
+            Node from = list.get(random.nextInt(nodes));
+            Node to = list.get(random.nextInt(nodes));
+            if (!from.equals(to)) {
+                graph.addEdge(new Edge(from, to, minWeight + random.nextInt(maxWeight - minWeight + 1)));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Graphe aléatoire à poids négatifs sans cycle négatif : w(u, v) = b + p(u) - p(v), avec b >= 0
+     * tiré dans [0, maxWeight] et des potentiels p dans [0, maxPotential].
+     */
+    static Graph withPotentials(Random random, int nodes, int edges, int maxWeight, int maxPotential) {
+        Graph graph = new Graph();
+        List<Node> list = new ArrayList<>();
+        int[] potentials = new int[nodes];
+        for (int i = 0; i < nodes; i++) {
+            Node node = new Node("p" + i, 0, 0);
+            list.add(node);
+            graph.addNode(node);
+            potentials[i] = random.nextInt(maxPotential + 1);
+        }
+        for (int i = 0; i < edges; i++) {
+            int u = random.nextInt(nodes);
+            int v = random.nextInt(nodes);
+            if (u != v) {
+                graph.addEdge(new Edge(list.get(u), list.get(v), random.nextInt(maxWeight + 1) + potentials[u] - potentials[v]));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Grille carrée à arcs dans les deux sens (même poids), façon réseau routier.
+     */
+    static Graph grid(Random random, int side, int maxWeight) {
+        Graph graph = new Graph();
+        Node[][] nodes = new Node[side][side];
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                nodes[i][j] = new Node("g" + i + "_" + j, i * 10, j * 10);
+                graph.addNode(nodes[i][j]);
+            }
+        }
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                if (i + 1 < side) biEdge(graph, nodes[i][j], nodes[i + 1][j], 1 + random.nextInt(maxWeight));
+                if (j + 1 < side) biEdge(graph, nodes[i][j], nodes[i][j + 1], 1 + random.nextInt(maxWeight));
+            }
+        }
+        return graph;
+    }
+
+    private static void biEdge(Graph graph, Node a, Node b, double weight) {
+        graph.addEdge(new Edge(a, b, weight));
+        graph.addEdge(new Edge(b, a, weight));
+    }
+
+    static Node randomNode(Graph graph, Random random) {
+        List<Node> nodes = graph.getNodes();
+        return nodes.get(random.nextInt(nodes.size()));
+    }
+
+    /**
+     * Vérifie que le résultat est un chemin réel de 'start' à 'end' dont le coût annoncé est la somme
+     * des arcs, et que ce coût vaut 'expectedCost' ; sans chemin si 'expectedCost' est infini.
+     */
+    static void assertPath(Graph graph, PathResult result, Node start, Node end, double expectedCost, String context) {
+        if (expectedCost == Double.POSITIVE_INFINITY) {
+            assertNull(result.getPath(), context + ": no path expected");
+            assertEquals(Double.POSITIVE_INFINITY, result.getCost(), context);
+            return;
+        }
+        assertEquals(expectedCost, result.getCost(), 1e-9, context);
+        assertEquals(expectedCost, pathCost(graph, result.getPath(), start, end, context), 1e-9, context);
+    }
+
+    /**
+     * Coût du chemin (arc le plus léger entre deux nœuds consécutifs), après avoir vérifié ses extrémités
+     * et l'existence de chaque arc.
+     */
+    static double pathCost(Graph graph, List<Node> path, Node start, Node end, String context) {
+        assertNotNull(path, context + ": path expected");
+        assertEquals(start, path.get(0), context + ": first node");
+        assertEquals(end, path.get(path.size() - 1), context + ": last node");
+        double cost = 0.0;
+        for (int i = 1; i < path.size(); i++) {
+            double best = Double.POSITIVE_INFINITY;
+            for (Edge edge : graph.getOutgoingEdges(path.get(i - 1))) {
+                if (edge.getTarget().equals(path.get(i))) best = Math.min(best, edge.getWeight());
+            }
+            assertTrue(best < Double.POSITIVE_INFINITY, context + ": no edge " + path.get(i - 1) + " -> " + path.get(i));
+            cost += best;
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.graphapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opérations aléatoires comparées à une table de clés tenue à côté (minimum par balayage).
+ */
+class IndexedDaryHeapTest {
+    private static final int CAPACITY = 200;
+
+    @Test
+    void matchesLinearScanUnderRandomOperations() {
+        for (int arity : new int[] {2, 3, 4, 8}) {
+            Random random = new Random(arity);
+            IndexedDaryHeap heap = new IndexedDaryHeap(CAPACITY / 2, arity);
+            double[] keys = new double[CAPACITY];
+            Arrays.fill(keys, Double.NaN); // NaN: not in the heap
+            heap.ensureCapacity(CAPACITY);
+
+            for (int step = 0; step < 20_000; step++) {
+                int item = random.nextInt(CAPACITY);
+                double key = random.nextInt(1000); // Small range: plenty of ties
+                switch (random.nextInt(5)) {
+                    case 0:
+                    case 1:
+                        boolean changed = heap.insertOrDecrease(item, key);
+                        assertEquals(Double.isNaN(keys[item]) || key < keys[item], changed);
+                        if (changed) keys[item] = key;
+                        break;
+                    case 2:
+                        if (!Double.isNaN(keys[item])) {
+                            heap.changeKey(item, key);
+                            keys[item] = key;
+                        }
+                        break;
+                    case 3:
+                        if (!heap.isEmpty()) {
+                            double expected = minimum(keys);
+                            assertEquals(expected, heap.peekKey());
+                            int polled = heap.poll();
+                            assertEquals(expected, keys[polled]);
+                            keys[polled] = Double.NaN;
+                            assertFalse(heap.contains(polled));
+                        }
+                        break;
+                    default:
+                        if (random.nextInt(100) == 0) {
+                            heap.clear();
+                            Arrays.fill(keys, Double.NaN);
+                        }
+                }
+                assertEquals(count(keys), heap.size());
+            }
+
+            // Drain: keys come out in non-decreasing order
+            double previous = Double.NEGATIVE_INFINITY;
+            while (!heap.isEmpty()) {
+                int item = heap.poll();
+                assertTrue(keys[item] >= previous);
+                previous = keys[item];
+            }
+        }
+    }
+
+    @Test
+    void rebuildRestoresHeapOrderAfterKeysChange() {
+        Random random = new Random(7);
+        IndexedDaryHeap heap = new IndexedDaryHeap(CAPACITY);
+        double[] keys = new double[CAPACITY];
+        for (int item = 0; item < CAPACITY; item += 2) {
+            heap.insert(item, random.nextDouble());
+        }
+        for (int item = 0; item < CAPACITY; item++) {
+            keys[item] = random.nextDouble();
+        }
+        heap.rebuild(item -> keys[item]);
+
+        double previous = Double.NEGATIVE_INFINITY;
+        int polled = 0;
+        while (!heap.isEmpty()) {
+            int item = heap.poll();
+            assertEquals(0, item % 2);
+            assertTrue(keys[item] >= previous);
+            previous = keys[item];
+            polled++;
+        }
+        assertEquals(CAPACITY / 2, polled);
+    }
+
+    private static double minimum(double[] keys) {
+        double min = Double.POSITIVE_INFINITY;
+        for (double key : keys) {
+            if (!Double.isNaN(key)) min = Math.min(min, key);
+        }
+        return min;
+    }
+
+    private static int count(double[] keys) {
+        int count = 0;
+        for (double key : keys) {
+            if (!Double.isNaN(key)) count++;
+        }
+        return count;
+    }
+}
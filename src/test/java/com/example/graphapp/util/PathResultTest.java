@@ -0,0 +1,32 @@
+package com.example.graphapp.util;
+
+import com.example.graphapp.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Le chemin d'un résultat ne suit pas les modifications de la liste fournie par l'appelant.
+ */
+class PathResultTest {
+
+    @Test
+    void pathIsASnapshotOfTheCallerList() {
+        Node a = new Node("a", 0, 0);
+        Node b = new Node("b", 0, 0);
+        List<Node> path = new ArrayList<>(List.of(a, b));
+        PathResult result = new PathResult(path, 1.0, 0);
+
+        path.add(a);
+        path.set(0, b);
+
+        assertEquals(List.of(a, b), result.getPath());
+        assertThrows(UnsupportedOperationException.class, () -> result.getPath().add(a));
+        assertSame(result.getPath(), result.withCalculationTimeMs(5).getPath()); // Already immutable: not copied again
+    }
+}